@@ -0,0 +1,87 @@
+package com.nithish9020.backend.benchmark;
+
+import com.nithish9020.backend.dto.ApplicationDto;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.ApplicantInterview.Booking;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.service.ApplicationService;
+import com.nithish9020.backend.service.CandidateViewCache;
+import com.nithish9020.backend.service.InterviewService;
+import com.nithish9020.backend.service.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Booking detail lookups for a candidate with a varying number of bookings:
+ * a single application by id, and the full list of booked slots. Repositories
+ * are in-memory stubs, so this measures the mapping and status work on top of
+ * the booking index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationLookupBenchmark {
+    private static final String EMAIL = "candidate@example.com";
+
+    @Param({ "1", "20", "200" })
+    public int bookings;
+
+    private ApplicationService applicationService;
+    private String lookupId;
+
+    @Setup
+    public void setUp() {
+        List<Interview> interviews = BenchmarkData.interviews(bookings, 5, 16, 3);
+        Map<String, Booking> bookingIndex = new HashMap<>();
+        for (Interview interview : interviews) {
+            bookingIndex.put(interview.getId(),
+                    new Booking(interview.getFromDate().toString(), "10:00", LocalDateTime.now()));
+            interview.setTimeSlots(null); // summaries come without the slot grid
+        }
+        ApplicantInterview applicant = new ApplicantInterview();
+        applicant.setEmail(EMAIL);
+        applicant.setInterviewIds(interviews.stream().map(Interview::getId).toList());
+        applicant.setBookings(bookingIndex);
+        lookupId = interviews.get(interviews.size() - 1).getId();
+
+        ApplicantInterviewRepository applicantRepository = mock(ApplicantInterviewRepository.class);
+        when(applicantRepository.findById(EMAIL)).thenReturn(Optional.of(applicant));
+        InterviewRepository interviewRepository = mock(InterviewRepository.class);
+        when(interviewRepository.findSummaryById(anyString()))
+                .thenAnswer(invocation -> interviews.stream()
+                        .filter(interview -> interview.getId().equals(invocation.getArgument(0)))
+                        .findFirst());
+        when(interviewRepository.findSummariesByIdIn(any())).thenReturn(interviews);
+
+        applicationService = new ApplicationService(applicantRepository, interviewRepository,
+                mock(InterviewService.class), mock(CandidateViewCache.class),
+                new ServiceMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public ApplicationDto applicationById() {
+        return applicationService.getApplicationById(lookupId, EMAIL);
+    }
+
+    @Benchmark
+    public List<ApplicationDto> myBookings() {
+        return applicationService.getMyBookings(EMAIL);
+    }
+}
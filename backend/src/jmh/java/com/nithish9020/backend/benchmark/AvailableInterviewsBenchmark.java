@@ -0,0 +1,68 @@
+package com.nithish9020.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.SlotRepository;
+import com.nithish9020.backend.service.AvailabilityIndex;
+import com.nithish9020.backend.service.CandidateViewCache;
+import com.nithish9020.backend.service.ExcelCandidateImporter;
+import com.nithish9020.backend.service.InterviewService;
+import com.nithish9020.backend.service.ServiceMetrics;
+import com.nithish9020.backend.service.SlotFeedService;
+import com.nithish9020.backend.service.SlotHoldService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Builds the candidate's available-interviews view (including the per-day free
+ * slot lists) from in-memory interviews. The repository and view cache are
+ * stubs, so this measures the mapping itself, i.e. the work done on every
+ * view cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailableInterviewsBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int interviews;
+
+    @Param({ "8", "32" })
+    public int slotsPerDay;
+
+    private InterviewService interviewService;
+
+    @Setup
+    public void setUp() {
+        InterviewRepository interviewRepository = mock(InterviewRepository.class);
+        when(interviewRepository.findOpenInterviews(any()))
+                .thenReturn(BenchmarkData.interviews(interviews, 5, slotsPerDay, 3));
+        CandidateViewCache viewCache = mock(CandidateViewCache.class);
+        when(viewCache.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        interviewService = new InterviewService(interviewRepository, mock(SlotRepository.class),
+                mock(ApplicantInterviewRepository.class), new ExcelCandidateImporter(), new ObjectMapper(),
+                viewCache, mock(SlotFeedService.class),
+                new ServiceMetrics(new SimpleMeterRegistry()), mock(AvailabilityIndex.class),
+                mock(SlotHoldService.class));
+    }
+
+    @Benchmark
+    public List<InterviewDto> availableInterviews() {
+        return interviewService.getAvailableInterviews("candidate@example.com");
+    }
+}
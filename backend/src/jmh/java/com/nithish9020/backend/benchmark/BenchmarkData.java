@@ -0,0 +1,59 @@
+package com.nithish9020.backend.benchmark;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic interviews for the benchmarks: each one spans {@code days} days
+ * with {@code slotsPerDay} quarter-hour slots from 08:00 (at most 64), and every
+ * {@code bookedEvery}-th slot is already taken.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<Interview> interviews(int count, int days, int slotsPerDay, int bookedEvery) {
+        LocalDate from = LocalDate.now().plusDays(1);
+        List<Interview> interviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SlotGrid timeSlots = SlotGrid.of(timeSlots(from, days, slotsPerDay, bookedEvery));
+
+            Interview interview = new Interview();
+            interview.setId("interview-" + i);
+            interview.setInterviewName("Interview " + i);
+            interview.setFromDate(from);
+            interview.setToDate(from.plusDays(days - 1));
+            interview.setTimeSlots(timeSlots);
+            interview.setTotalSlots(timeSlots.totalSlots());
+            interview.setOpenSlots(timeSlots.openSlots());
+            interview.setSlotsNormalized(true);
+            interview.setCreatedBy("interviewer" + i % 10 + "@example.com");
+            interview.setCreatedAt(LocalDateTime.now());
+            interviews.add(interview);
+        }
+        return interviews;
+    }
+
+    // One interview's slots as the nested maps they are stored as
+    static Map<String, Map<String, String>> timeSlots(LocalDate from, int days, int slotsPerDay, int bookedEvery) {
+        Map<String, Map<String, String>> timeSlots = new HashMap<>();
+        int slot = 0;
+        for (int day = 0; day < days; day++) {
+            Map<String, String> daySlots = new HashMap<>();
+            for (int s = 0; s < slotsPerDay; s++, slot++) {
+                String time = String.format("%02d:%02d", 8 + s / 4, s % 4 * 15);
+                daySlots.put(time, slot % bookedEvery == 0 ? "candidate" + slot + "@example.com" : null);
+            }
+            timeSlots.put(from.plusDays(day).toString(), daySlots);
+        }
+        return timeSlots;
+    }
+}
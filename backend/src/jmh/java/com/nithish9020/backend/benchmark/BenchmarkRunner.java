@@ -0,0 +1,43 @@
+package com.nithish9020.backend.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of the {@code benchmarks} profile. Runs every benchmark in this
+ * package and writes the results as JSON to {@code target/jmh-result.json}, so
+ * runs from different releases can be compared. Regular JMH options can be
+ * passed with {@code -Djmh.args="..."}, e.g. {@code -Djmh.args="Jwt -f 1 -wi 1"};
+ * an explicit {@code -rf}/{@code -rff} overrides the JSON defaults.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Maven passes jmh.args as one (possibly empty) argument
+        String[] jmhArgs = Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .filter(arg -> !arg.isEmpty())
+                .toArray(String[]::new);
+        CommandLineOptions commandLine = new CommandLineOptions(jmhArgs);
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackageName() + ".");
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("target/jmh-result.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
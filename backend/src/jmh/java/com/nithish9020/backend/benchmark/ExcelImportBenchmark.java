@@ -0,0 +1,47 @@
+package com.nithish9020.backend.benchmark;
+
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import com.nithish9020.backend.service.ExcelCandidateImporter;
+import com.nithish9020.backend.service.ExcelFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a large generated workbook straight through the importer. The fork
+ * runs with a 128 MB heap, so a change that buffers the sheet fails the run
+ * with an OutOfMemoryError; add {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ExcelImportBenchmark {
+
+    @Param({ "200000" })
+    public int rows;
+
+    private final ExcelCandidateImporter importer = new ExcelCandidateImporter();
+    private Path workbook;
+
+    @Setup
+    public void setUp() throws IOException {
+        workbook = ExcelFixtures.writeCandidates(Files.createTempFile("candidates-jmh-", ".xlsx"), rows, 1_000, 500);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbook);
+    }
+
+    @Benchmark
+    public ExcelImportSummary importCandidates(Blackhole blackhole) throws IOException {
+        return importer.importCandidates(workbook, blackhole::consume);
+    }
+}
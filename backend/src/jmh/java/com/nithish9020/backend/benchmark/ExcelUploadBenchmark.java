@@ -0,0 +1,69 @@
+package com.nithish9020.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.SlotRepository;
+import com.nithish9020.backend.service.AvailabilityIndex;
+import com.nithish9020.backend.service.CandidateViewCache;
+import com.nithish9020.backend.service.ExcelCandidateImporter;
+import com.nithish9020.backend.service.ExcelFixtures;
+import com.nithish9020.backend.service.InterviewService;
+import com.nithish9020.backend.service.ServiceMetrics;
+import com.nithish9020.backend.service.SlotFeedService;
+import com.nithish9020.backend.service.SlotHoldService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Parses generated candidate workbooks through {@code processExcelFile}, as an
+ * upload would. One row in 1000 is invalid and one in 500 a duplicate.
+ * {@link ExcelImportBenchmark} covers larger sheets under a small heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelUploadBenchmark {
+
+    @Param({ "1000", "20000" })
+    public int rows;
+
+    private InterviewService interviewService;
+    private MockMultipartFile upload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path workbook = ExcelFixtures.writeCandidates(Files.createTempFile("candidates-jmh-", ".xlsx"),
+                rows, 1_000, 500);
+        try {
+            upload = new MockMultipartFile("file", "candidates.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                    Files.readAllBytes(workbook));
+        } finally {
+            Files.deleteIfExists(workbook);
+        }
+        interviewService = new InterviewService(mock(InterviewRepository.class), mock(SlotRepository.class),
+                mock(ApplicantInterviewRepository.class), new ExcelCandidateImporter(), new ObjectMapper(),
+                mock(CandidateViewCache.class), mock(SlotFeedService.class),
+                new ServiceMetrics(new SimpleMeterRegistry()), mock(AvailabilityIndex.class),
+                mock(SlotHoldService.class));
+    }
+
+    @Benchmark
+    public ExcelImportSummary processExcelFile(Blackhole blackhole) throws IOException {
+        return interviewService.processExcelFile(upload, blackhole::consume);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nithish9020.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.entity.Interview;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON cost of the available-interviews view: writing it (every response, and
+ * every view cache fill) and reading it back (every Redis-level cache hit).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterviewDtoJsonBenchmark {
+    private static final TypeReference<List<InterviewDto>> VIEW_TYPE = new TypeReference<>() {
+    };
+
+    @Param({ "10", "100", "1000" })
+    public int interviews;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<InterviewDto> view;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        view = new ArrayList<>(interviews);
+        for (Interview interview : BenchmarkData.interviews(interviews, 5, 16, 3)) {
+            InterviewDto dto = new InterviewDto();
+            dto.setId(interview.getId());
+            dto.setInterviewName(interview.getInterviewName());
+            dto.setFromDate(interview.getFromDate().toString());
+            dto.setToDate(interview.getToDate().toString());
+            dto.setAvailableSlots(interview.getTimeSlots().availableSlots());
+            dto.setCreatedBy(interview.getCreatedBy());
+            view.add(dto);
+        }
+        json = objectMapper.writeValueAsBytes(view);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(view);
+    }
+
+    @Benchmark
+    public List<InterviewDto> deserialize() throws IOException {
+        return objectMapper.readValue(json, VIEW_TYPE);
+    }
+}
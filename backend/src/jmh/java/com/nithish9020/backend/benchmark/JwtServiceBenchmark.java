@@ -0,0 +1,59 @@
+package com.nithish9020.backend.benchmark;
+
+import com.nithish9020.backend.service.JwtService;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification throughput: a parser built per call (the old
+ * behaviour), a shared parser (a cache miss), and a cached repeat token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private SecretKey key;
+    private JwtService cached;
+    private JwtParser sharedParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        cached = new JwtService(SECRET, 60, 10_000, 60);
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        token = cached.generateToken("candidate@example.com");
+        cached.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cached.generateToken("candidate@example.com");
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return sharedParser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String cached() {
+        return cached.getUsernameFromToken(token);
+    }
+}
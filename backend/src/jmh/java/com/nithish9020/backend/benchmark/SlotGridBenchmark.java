@@ -0,0 +1,108 @@
+package com.nithish9020.backend.benchmark;
+
+import com.nithish9020.backend.entity.SlotGrid;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One interview's availability as the nested maps it used to be held in,
+ * against the SlotGrid that replaced them: decoding the stored document, the
+ * "any free?" check and free count, and building the per-day free slot lists
+ * of the candidate view. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotGridBenchmark {
+
+    @Param({ "5", "30" })
+    public int days;
+
+    @Param({ "8", "32" })
+    public int slotsPerDay;
+
+    private Document stored;
+    private Map<String, Map<String, String>> map;
+    private SlotGrid grid;
+
+    @Setup
+    public void setUp() {
+        Map<String, Map<String, String>> timeSlots = BenchmarkData.timeSlots(LocalDate.now().plusDays(1), days,
+                slotsPerDay, 3);
+        grid = SlotGrid.of(timeSlots);
+        stored = new Document();
+        grid.toMap().forEach((date, slots) -> stored.put(date, new Document(slots)));
+        map = decodeMap();
+    }
+
+    // What mapping the stored document onto Map<String, Map<String, String>> amounted to
+    @Benchmark
+    public Map<String, Map<String, String>> decodeMap() {
+        Map<String, Map<String, String>> timeSlots = new HashMap<>();
+        stored.forEach((date, slots) -> {
+            Map<String, String> day = new HashMap<>();
+            ((Document) slots).forEach((time, applicant) -> day.put(time, (String) applicant));
+            timeSlots.put(date, day);
+        });
+        return timeSlots;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public SlotGrid decodeGrid() {
+        return SlotGrid.of((Map<String, Map<String, ?>>) (Map<String, ?>) stored);
+    }
+
+    @Benchmark
+    public boolean hasOpenSlotsMap() {
+        return map.values().stream().anyMatch(day -> day.containsValue(null));
+    }
+
+    @Benchmark
+    public boolean hasOpenSlotsGrid() {
+        return grid.hasOpenSlots();
+    }
+
+    @Benchmark
+    public long openSlotsMap() {
+        return map.values().stream().flatMap(day -> day.values().stream()).filter(applicant -> applicant == null)
+                .count();
+    }
+
+    @Benchmark
+    public int openSlotsGrid() {
+        return grid.openSlots();
+    }
+
+    // The getAvailableSlots the candidate view used before SlotGrid
+    @Benchmark
+    public Map<String, List<String>> availableSlotsMap() {
+        Map<String, List<String>> availableSlots = new HashMap<>();
+        map.forEach((date, slots) -> {
+            List<String> freeSlots = slots.entrySet().stream()
+                    .filter(entry -> entry.getValue() == null)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (!freeSlots.isEmpty()) {
+                availableSlots.put(date, freeSlots);
+            }
+        });
+        return availableSlots;
+    }
+
+    @Benchmark
+    public Map<String, List<String>> availableSlotsGrid() {
+        return grid.availableSlots();
+    }
+}
@@ -0,0 +1,177 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.nithish9020.backend.dto.BookSlotRequest;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.loadtest.LoadTestHarness.Account;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * N candidates race for M slots of one interview. Each candidate lists the
+ * free slots of a day, tries a random one, and on a 409 lists again, until it
+ * has a slot or every day is full. As "hold-storm" each try first holds the
+ * slot and then confirms it, so slots being confirmed drop out of the other
+ * candidates' lists. Afterwards no slot may have been granted twice, and the
+ * slot documents, the interview's slot map and open-slot counter, and the
+ * candidates' booking index must all agree.
+ */
+final class BookingStorm implements Scenario {
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final boolean holds;
+
+    BookingStorm(boolean holds) {
+        this.holds = holds;
+    }
+
+    @Override
+    public String name() {
+        return holds ? "hold-storm" : "booking-storm";
+    }
+
+    @Override
+    public Report run(LoadTestHarness harness, LoadTestConfig config) throws Exception {
+        // Both variants may run against the same backend, so their accounts must not clash
+        String prefix = holds ? "hold-storm" : "storm";
+        Account interviewer = harness.seedUsers(prefix + "-interviewer", 1, ROLE.INTERVIEWER).get(0);
+        List<Account> candidates = harness.seedUsers(prefix + "-candidate", config.candidates(), ROLE.APPLICANT);
+        LoadClient client = harness.client();
+
+        CreateInterviewRequest request = Fixtures.interview("Booking storm", config.slots(),
+                candidates.stream().map(Account::email).toList());
+        LoadClient.Response created = client.post("/api/interviews", request, interviewer.token());
+        if (!created.isOk()) {
+            throw new IllegalStateException("Could not create the storm interview: " + created);
+        }
+        String interviewId = (String) client.read(created, JSON_OBJECT).get("id");
+        List<String> dates = new ArrayList<>(request.getTimeSlots().keySet());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Map<String, String> granted = new ConcurrentHashMap<>(); // "date time" -> candidate, from 200 responses
+        AtomicInteger doubleGrants = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Account candidate = candidates.get(i);
+            Random random = new Random(i);
+            tasks.add(() -> {
+                List<String> order = new ArrayList<>(dates);
+                Collections.shuffle(order, random);
+                for (String date : order) {
+                    while (true) {
+                        LoadClient.Response listed = recorder.time("list-free-slots", () -> client.get(
+                                "/api/interviews/" + interviewId + "/slots?date=" + date, candidate.token()));
+                        List<String> free = freeSlots(client, listed);
+                        if (free.isEmpty()) {
+                            break;
+                        }
+
+                        BookSlotRequest book = new BookSlotRequest();
+                        book.setDate(date);
+                        book.setTimeSlot(free.get(random.nextInt(free.size())));
+                        attempts.incrementAndGet();
+                        LoadClient.Response booked = holds
+                                ? holdAndConfirm(client, recorder, interviewId, book, candidate)
+                                : recorder.time("book-slot", () -> client.post(
+                                        "/api/interviews/" + interviewId + "/book", book, candidate.token()));
+                        if (booked.isOk()) {
+                            if (granted.putIfAbsent(date + " " + book.getTimeSlot(), candidate.email()) != null) {
+                                doubleGrants.incrementAndGet();
+                            }
+                            return;
+                        }
+                        if (booked.status() != 409) {
+                            unexpected.incrementAndGet();
+                            return;
+                        }
+                        conflicts.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        harness.runConcurrently(tasks);
+        long elapsed = System.nanoTime() - started;
+
+        return new Report(name(), elapsed / 1_000_000, recorder.summarize(elapsed),
+                Map.of("attempts", attempts.get(), "conflicts", conflicts.get()),
+                verify(harness, interviewId, granted, doubleGrants.get(), unexpected.get(), config));
+    }
+
+    // A 409 from either step counts as the slot being taken
+    private static LoadClient.Response holdAndConfirm(LoadClient client, LatencyRecorder recorder,
+            String interviewId, BookSlotRequest book, Account candidate) {
+        LoadClient.Response held = recorder.time("hold-slot", () -> client.post(
+                "/api/interviews/" + interviewId + "/hold", book, candidate.token()));
+        if (!held.isOk()) {
+            return held;
+        }
+        return recorder.time("confirm-hold", () -> client.post(
+                "/api/interviews/" + interviewId + "/hold/confirm", null, candidate.token()));
+    }
+
+    private static List<String> freeSlots(LoadClient client, LoadClient.Response listed) {
+        if (!listed.isOk()) {
+            return List.of();
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> free = (List<String>) client.read(listed, JSON_OBJECT).get("freeSlots");
+            return free;
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private static List<Check> verify(LoadTestHarness harness, String interviewId, Map<String, String> granted,
+            int doubleGrants, int unexpected, LoadTestConfig config) {
+        MongoTemplate mongo = harness.bean(MongoTemplate.class);
+        List<Slot> booked = mongo.find(new Query(Criteria.where("interviewId").is(interviewId)
+                .and("bookedBy").ne(null)), Slot.class);
+        Interview interview = harness.bean(InterviewRepository.class).findById(interviewId).orElseThrow();
+        ApplicantInterviewRepository applicants = harness.bean(ApplicantInterviewRepository.class);
+
+        Checks checks = new Checks();
+        checks.expectEqual("no slot granted twice", 0, doubleGrants);
+        checks.expectEqual("no unexpected booking responses", 0, unexpected);
+        checks.expectEqual("every slot or every candidate booked", Math.min(config.slots(), config.candidates()),
+                booked.size());
+        checks.expectEqual("successful responses match booked slots", granted.size(), booked.size());
+        checks.expectEqual("no candidate holds two slots", booked.size(),
+                booked.stream().map(Slot::getBookedBy).distinct().count());
+
+        long mismatched = booked.stream()
+                .filter(slot -> !slot.getBookedBy().equals(granted.get(slot.getDate() + " " + slot.getTime()))
+                        || !slot.getBookedBy().equals(interview.getTimeSlots().bookedBy(slot.getDate(), slot.getTime()))
+                        || !applicants.findById(slot.getBookedBy())
+                                .map(ApplicantInterview::getBookings)
+                                .map(bookings -> bookings.get(interviewId))
+                                .filter(b -> b.getDate().equals(slot.getDate()) && b.getTime().equals(slot.getTime()))
+                                .isPresent())
+                .count();
+        checks.expectEqual("slots, interview mirror and booking index agree", 0, mismatched);
+        checks.expectEqual("open-slot counter matches", config.slots() - booked.size(), interview.getOpenSlots());
+        return checks.list();
+    }
+}
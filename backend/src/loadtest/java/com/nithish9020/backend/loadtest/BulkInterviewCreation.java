@@ -0,0 +1,87 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.loadtest.LoadTestHarness.Account;
+import com.nithish9020.backend.repository.InterviewRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Interviewers creating interviews at the same time, each registering the same
+ * pool of candidates, so the bulk candidate upserts contend on shared applicant
+ * documents. Every created interview must end up with all of its slot documents
+ * and every candidate registered on it.
+ */
+final class BulkInterviewCreation implements Scenario {
+    private static final int SLOTS_PER_INTERVIEW = 32;
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    @Override
+    public String name() {
+        return "bulk-interview-creation";
+    }
+
+    @Override
+    public Report run(LoadTestHarness harness, LoadTestConfig config) throws Exception {
+        List<Account> interviewers = harness.seedUsers("bulk-interviewer", config.interviewers(), ROLE.INTERVIEWER);
+        List<String> candidateEmails = IntStream.range(0, config.candidatesPerInterview())
+                .mapToObj(i -> "bulk-candidate-" + i + "@loadtest.local")
+                .toList();
+        LoadClient client = harness.client();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Set<String> created = ConcurrentHashMap.newKeySet();
+        List<Runnable> tasks = new ArrayList<>();
+        for (Account interviewer : interviewers) {
+            for (int i = 0; i < config.interviewsPerInterviewer(); i++) {
+                String name = "Bulk " + interviewer.email() + " #" + i;
+                tasks.add(() -> {
+                    LoadClient.Response response = recorder.time("create-interview", () -> client.post(
+                            "/api/interviews", Fixtures.interview(name, SLOTS_PER_INTERVIEW, candidateEmails),
+                            interviewer.token()));
+                    if (response.isOk()) {
+                        try {
+                            created.add((String) client.read(response, JSON_OBJECT).get("id"));
+                        } catch (Exception e) {
+                            throw new IllegalStateException("Unreadable create response: " + response, e);
+                        }
+                    }
+                });
+            }
+        }
+
+        long started = System.nanoTime();
+        harness.runConcurrently(tasks);
+        long elapsed = System.nanoTime() - started;
+
+        MongoTemplate mongo = harness.bean(MongoTemplate.class);
+        InterviewRepository interviews = harness.bean(InterviewRepository.class);
+        Checks checks = new Checks();
+        checks.expectEqual("every create succeeded", tasks.size(), created.size());
+        checks.expectEqual("each interviewer sees all their interviews", 0, interviewers.stream()
+                .filter(interviewer -> interviews.findByCreatedBy(interviewer.email()).size()
+                        != config.interviewsPerInterviewer())
+                .count());
+        checks.expectEqual("every interview has all its slot documents", 0, created.stream()
+                .filter(id -> mongo.count(new Query(Criteria.where("interviewId").is(id)), Slot.class)
+                        != SLOTS_PER_INTERVIEW)
+                .count());
+        checks.expectEqual("every candidate is registered on every interview", 0, created.stream()
+                .filter(id -> mongo.count(new Query(Criteria.where("interviewIds").is(id)), ApplicantInterview.class)
+                        != candidateEmails.size())
+                .count());
+        return new Report(name(), elapsed / 1_000_000, recorder.summarize(elapsed), Map.of(), checks.list());
+    }
+}
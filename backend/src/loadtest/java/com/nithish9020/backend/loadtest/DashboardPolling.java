@@ -0,0 +1,99 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.loadtest.LoadTestHarness.Account;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Dashboards left open and refreshing: candidates cycle through available
+ * interviews, their applications and their bookings, and one in ten pollers
+ * is an interviewer refreshing their own interviews, for
+ * {@code pollSeconds}. Every candidate response must list the interviews
+ * seeded before polling began.
+ */
+final class DashboardPolling implements Scenario {
+    private static final TypeReference<List<Map<String, Object>>> JSON_LIST = new TypeReference<>() {
+    };
+    private static final List<String> CANDIDATE_PAGES = List.of(
+            "/api/interviews/available", "/api/applications/my-applications", "/api/applications/my-bookings");
+
+    @Override
+    public String name() {
+        return "dashboard-polling";
+    }
+
+    @Override
+    public Report run(LoadTestHarness harness, LoadTestConfig config) throws Exception {
+        int interviewerCount = Math.max(1, config.pollers() / 10);
+        List<Account> interviewers = harness.seedUsers("poll-interviewer", interviewerCount, ROLE.INTERVIEWER);
+        List<Account> candidates = harness.seedUsers("poll-candidate", config.pollers() - interviewerCount,
+                ROLE.APPLICANT);
+        LoadClient client = harness.client();
+
+        Set<String> seeded = new HashSet<>();
+        List<String> candidateEmails = candidates.stream().map(Account::email).toList();
+        for (Account interviewer : interviewers) {
+            LoadClient.Response created = client.post("/api/interviews",
+                    Fixtures.interview("Dashboard " + interviewer.email(), 32, candidateEmails), interviewer.token());
+            if (!created.isOk()) {
+                throw new IllegalStateException("Could not create a dashboard interview: " + created);
+            }
+            seeded.add((String) client.read(created, new TypeReference<Map<String, Object>>() {
+            }).get("id"));
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicInteger incompleteViews = new AtomicInteger();
+        long deadline = System.nanoTime() + config.pollSeconds() * 1_000_000_000L;
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (Account interviewer : interviewers) {
+            tasks.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    recorder.time("my-interviews", () -> client.get("/api/interviews/my-interviews",
+                            interviewer.token()));
+                }
+            });
+        }
+        for (Account candidate : candidates) {
+            tasks.add(() -> {
+                for (int page = 0; System.nanoTime() < deadline; page = (page + 1) % CANDIDATE_PAGES.size()) {
+                    String path = CANDIDATE_PAGES.get(page);
+                    LoadClient.Response response = recorder.time(path.substring(path.lastIndexOf('/') + 1),
+                            () -> client.get(path, candidate.token()));
+                    if (page == 0 && response.isOk() && !listsAll(client, response, seeded)) {
+                        incompleteViews.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        harness.runConcurrently(tasks);
+        long elapsed = System.nanoTime() - started;
+
+        Checks checks = new Checks();
+        checks.expectEqual("no failed requests", 0, recorder.errors());
+        checks.expectEqual("available view lists every seeded interview", 0, incompleteViews.get());
+        return new Report(name(), elapsed / 1_000_000, recorder.summarize(elapsed), Map.of(), checks.list());
+    }
+
+    private static boolean listsAll(LoadClient client, LoadClient.Response response, Set<String> seeded) {
+        try {
+            Set<String> listed = client.read(response, JSON_LIST).stream()
+                    .map(interview -> (String) interview.get("id"))
+                    .collect(Collectors.toSet());
+            return listed.containsAll(seeded);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nithish9020.backend.loadtest;
+
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interview requests as the frontend builds them: {@code slots} half-hour
+ * slots from 09:00, 16 a day, starting tomorrow.
+ */
+final class Fixtures {
+    static final int SLOTS_PER_DAY = 16;
+
+    private Fixtures() {
+    }
+
+    static CreateInterviewRequest interview(String name, int slots, List<String> candidateEmails) {
+        LocalDate from = LocalDate.now().plusDays(1);
+        Map<String, Map<String, String>> timeSlots = new LinkedHashMap<>();
+        for (int i = 0; i < slots; i++) {
+            String date = from.plusDays(i / SLOTS_PER_DAY).toString();
+            String time = LocalTime.of(9, 0).plusMinutes(30L * (i % SLOTS_PER_DAY)).toString();
+            timeSlots.computeIfAbsent(date, d -> new HashMap<>()).put(time, null);
+        }
+
+        CreateInterviewRequest request = new CreateInterviewRequest();
+        request.setInterviewName(name);
+        request.setFromDate(from);
+        request.setToDate(from.plusDays(Math.max(0, (slots - 1) / SLOTS_PER_DAY)));
+        request.setTimeSlots(timeSlots);
+        request.setCandidates(candidateEmails.stream().map(email -> {
+            CandidateDto candidate = new CandidateDto();
+            candidate.setEmail(email);
+            candidate.setName(email.substring(0, email.indexOf('@')));
+            return candidate;
+        }).toList());
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.loadtest.LoadTestHarness.Account;
+import com.nithish9020.backend.repository.InterviewRepository;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An interviewer with {@code historyInterviews} past interviews, one a day, of
+ * 64 slots each with half of them booked. Measures what the old listing cost,
+ * every full document serialized as the endpoint used to return them, against
+ * the first page of summaries and a walk over every page. The walk must list
+ * each interview exactly once, newest first, with the stored slot counts.
+ */
+final class InterviewerListing implements Scenario {
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+    private static final int SLOTS = 64;
+    private static final int ROUNDS = 50;
+
+    @Override
+    public String name() {
+        return "interviewer-listing";
+    }
+
+    @Override
+    public Report run(LoadTestHarness harness, LoadTestConfig config) throws Exception {
+        Account interviewer = harness.seedUsers("listing-interviewer", 1, ROLE.INTERVIEWER).get(0);
+        InterviewRepository interviews = harness.bean(InterviewRepository.class);
+        interviews.saveAll(history(interviewer.email(), config.historyInterviews()));
+        ObjectMapper objectMapper = harness.bean(ObjectMapper.class);
+        LoadClient client = harness.client();
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        long started = System.nanoTime();
+        // Before: what GET /my-interviews used to do, read every document and serialize it whole
+        long fullBytes = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            LoadClient.Response full = recorder.time("full-documents", () -> new LoadClient.Response(200,
+                    objectMapper.writeValueAsString(interviews.findByCreatedBy(interviewer.email()))));
+            fullBytes = full.body().getBytes(StandardCharsets.UTF_8).length;
+        }
+        long firstPageBytes = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            LoadClient.Response first = recorder.time("first-page",
+                    () -> client.get("/api/interviews/my-interviews", interviewer.token()));
+            firstPageBytes = first.body().getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        List<Map<String, Object>> listed = new ArrayList<>();
+        long allPagesBytes = 0;
+        int pages = 0;
+        String cursor = null;
+        do {
+            String path = "/api/interviews/my-interviews?limit=100"
+                    + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            LoadClient.Response response = recorder.time("page", () -> client.get(path, interviewer.token()));
+            if (!response.isOk()) {
+                throw new IllegalStateException("Listing failed: " + response);
+            }
+            Map<String, Object> page = client.read(response, JSON_OBJECT);
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> items = (List<Map<String, Object>>) page.get("items");
+            listed.addAll(items);
+            allPagesBytes += response.body().getBytes(StandardCharsets.UTF_8).length;
+            pages++;
+            cursor = (String) page.get("nextCursor");
+        } while (cursor != null);
+        long elapsed = System.nanoTime() - started;
+
+        Set<Object> ids = new HashSet<>();
+        int outOfOrder = 0;
+        int wrongCounts = 0;
+        for (int i = 0; i < listed.size(); i++) {
+            Map<String, Object> item = listed.get(i);
+            ids.add(item.get("id"));
+            String createdAt = (String) item.get("createdAt");
+            if (i > 0 && createdAt.compareTo((String) listed.get(i - 1).get("createdAt")) > 0) {
+                outOfOrder++;
+            }
+            if (!Integer.valueOf(SLOTS).equals(item.get("totalSlots"))
+                    || !Integer.valueOf(SLOTS / 2).equals(item.get("bookedSlots"))) {
+                wrongCounts++;
+            }
+        }
+
+        Map<String, Object> measurements = new LinkedHashMap<>();
+        measurements.put("full documents bytes", fullBytes);
+        measurements.put("first page bytes", firstPageBytes);
+        measurements.put("all pages bytes", allPagesBytes);
+        measurements.put("pages", pages);
+
+        Checks checks = new Checks();
+        checks.expectEqual("no failed requests", 0, recorder.errors());
+        checks.expectEqual("every interview listed", config.historyInterviews(), listed.size());
+        checks.expectEqual("no interview listed twice", listed.size(), ids.size());
+        checks.expectEqual("newest first across pages", 0, outOfOrder);
+        checks.expectEqual("summaries carry stored slot counts", 0, wrongCounts);
+        return new Report(name(), elapsed / 1_000_000, recorder.summarize(elapsed), measurements, checks.list());
+    }
+
+    // One interview a day going back from today, saved directly: creating them over HTTP is not what is measured
+    private static List<Interview> history(String createdBy, int count) {
+        List<Interview> interviews = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int n = 0; n < count; n++) {
+            LocalDate from = now.toLocalDate().minusDays(n);
+            Map<String, Map<String, String>> timeSlots = new LinkedHashMap<>();
+            for (int i = 0; i < SLOTS; i++) {
+                String date = from.plusDays(i / Fixtures.SLOTS_PER_DAY).toString();
+                String time = LocalTime.of(9, 0).plusMinutes(30L * (i % Fixtures.SLOTS_PER_DAY)).toString();
+                timeSlots.computeIfAbsent(date, d -> new HashMap<>())
+                        .put(time, i % 2 == 0 ? "candidate" + i + "@loadtest.local" : null);
+            }
+            Interview interview = new Interview();
+            interview.setInterviewName("History " + n);
+            interview.setFromDate(from);
+            interview.setToDate(from.plusDays((SLOTS - 1) / Fixtures.SLOTS_PER_DAY));
+            interview.setTimeSlots(SlotGrid.of(timeSlots));
+            interview.setTotalSlots(SLOTS);
+            interview.setOpenSlots(SLOTS / 2);
+            interview.setCreatedBy(createdBy);
+            interview.setCreatedAt(now.minusDays(n));
+            interviews.add(interview);
+        }
+        return interviews;
+    }
+}
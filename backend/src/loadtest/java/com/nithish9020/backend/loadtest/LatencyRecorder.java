@@ -0,0 +1,80 @@
+package com.nithish9020.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-operation latencies for one scenario. Requests that throw or
+ * come back with an unexpected status count as errors but are timed all the
+ * same.
+ */
+final class LatencyRecorder {
+    private final Map<String, Samples> operations = new ConcurrentSkipListMap<>();
+
+    LoadClient.Response time(String operation, Callable<LoadClient.Response> request) {
+        Samples samples = operations.computeIfAbsent(operation, name -> new Samples());
+        long started = System.nanoTime();
+        try {
+            LoadClient.Response response = request.call();
+            samples.add(System.nanoTime() - started, !response.isError());
+            return response;
+        } catch (Exception e) {
+            samples.add(System.nanoTime() - started, false);
+            return LoadClient.Response.failed(e);
+        }
+    }
+
+    long errors() {
+        return operations.values().stream().mapToLong(samples -> samples.errors.sum()).sum();
+    }
+
+    List<OperationStats> summarize(long elapsedNanos) {
+        List<OperationStats> stats = new ArrayList<>();
+        operations.forEach((name, samples) -> stats.add(samples.summarize(name, elapsedNanos)));
+        return stats;
+    }
+
+    record OperationStats(String operation, int count, long errors, double p50Millis, double p99Millis,
+            double maxMillis, double perSecond) {
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long elapsed, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsed;
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        synchronized OperationStats summarize(String name, long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new OperationStats(name, count, errors.sum(), millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.99)), millis(count == 0 ? 0 : sorted[count - 1]),
+                    elapsedNanos == 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
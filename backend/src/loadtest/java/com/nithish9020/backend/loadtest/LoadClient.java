@@ -0,0 +1,73 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client for the booted backend. Every call carries the caller's
+ * JWT, the same way the frontend sends it.
+ */
+final class LoadClient {
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    LoadClient(int port, ObjectMapper objectMapper) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.objectMapper = objectMapper;
+    }
+
+    Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET());
+    }
+
+    Response post(String path, Object body, String token) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    <T> T read(Response response, TypeReference<T> type) throws IOException {
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+
+    private Response send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    // 409 is the expected answer to losing a slot race, so it does not count as an error
+    record Response(int status, String body) {
+
+        static Response failed(Exception e) {
+            return new Response(-1, String.valueOf(e));
+        }
+
+        boolean isOk() {
+            return status >= 200 && status < 300;
+        }
+
+        boolean isError() {
+            return !isOk() && status != 409;
+        }
+    }
+}
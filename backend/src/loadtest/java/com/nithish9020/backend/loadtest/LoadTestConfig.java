@@ -0,0 +1,67 @@
+package com.nithish9020.backend.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Volumes and knobs for a load-test run, given as {@code key=value} arguments
+ * (e.g. {@code candidates=2000 slots=500 concurrency=200}). Unset keys keep
+ * the defaults below.
+ */
+record LoadTestConfig(
+        int candidates, // booking and hold storms: candidates racing for the slots
+        int slots, // booking and hold storms: slots in the contested interview
+        int interviewers, // bulk creation: interviewers creating at the same time
+        int interviewsPerInterviewer,
+        int candidatesPerInterview,
+        int pollers, // dashboard polling: concurrent dashboard users
+        int pollSeconds,
+        int historyInterviews, // interviewer listing: past interviews of one interviewer
+        int concurrency, // client threads driving requests
+        String threadMode, // app.threads.mode for the booted backend
+        List<String> scenarios, // names to run, in order
+        Path report) {
+
+    private static final Set<String> KEYS = Set.of("candidates", "slots", "interviewers",
+            "interviewsPerInterviewer", "candidatesPerInterview", "pollers", "pollSeconds", "historyInterviews",
+            "concurrency", "threadMode", "scenarios", "report");
+
+    static LoadTestConfig parse(String[] args) {
+        // Maven passes loadtest.args as one (possibly empty) argument
+        Map<String, String> values = new HashMap<>();
+        Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .filter(arg -> !arg.isEmpty())
+                .forEach(arg -> {
+                    int eq = arg.indexOf('=');
+                    if (eq < 0 || !KEYS.contains(arg.substring(0, eq))) {
+                        throw new IllegalArgumentException("Expected key=value with a key in " + KEYS + ": " + arg);
+                    }
+                    values.put(arg.substring(0, eq), arg.substring(eq + 1));
+                });
+
+        return new LoadTestConfig(
+                intValue(values, "candidates", 1000),
+                intValue(values, "slots", 200),
+                intValue(values, "interviewers", 20),
+                intValue(values, "interviewsPerInterviewer", 5),
+                intValue(values, "candidatesPerInterview", 200),
+                intValue(values, "pollers", 100),
+                intValue(values, "pollSeconds", 20),
+                intValue(values, "historyInterviews", 365),
+                intValue(values, "concurrency", 100),
+                values.getOrDefault("threadMode", "platform"),
+                List.of(values.getOrDefault("scenarios",
+                        "bulk-interview-creation,booking-storm,hold-storm,dashboard-polling,interviewer-listing").split(",")),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.json")));
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
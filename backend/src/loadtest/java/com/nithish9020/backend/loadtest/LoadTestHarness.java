@@ -0,0 +1,155 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.BackendApplication;
+import com.nithish9020.backend.config.ThreadingMode;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.User;
+import com.nithish9020.backend.repository.UserRepository;
+import com.nithish9020.backend.service.JwtService;
+import com.nithish9020.backend.service.UserCache;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots {@link BackendApplication} on a random port against {@link StandIns}
+ * and gives scenarios seeded accounts, an HTTP client and the application's
+ * beans for correctness checks. {@code EnvConfig} is left out on purpose so a
+ * local {@code .env} cannot point the run at real services.
+ */
+final class LoadTestHarness implements AutoCloseable {
+    private static final int SEED_BATCH = 500;
+
+    private final StandIns standIns;
+    private final ConfigurableApplicationContext context;
+    private final LoadClient client;
+    private final ExecutorService workers;
+
+    private LoadTestHarness(StandIns standIns, ConfigurableApplicationContext context, int concurrency) {
+        this.standIns = standIns;
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.client = new LoadClient(port, context.getBean(ObjectMapper.class));
+        this.workers = Executors.newFixedThreadPool(concurrency);
+    }
+
+    static LoadTestHarness start(LoadTestConfig config) throws Exception {
+        StandIns standIns = StandIns.start();
+        try {
+            List<String> args = new ArrayList<>(standIns.applicationArguments());
+            args.addAll(List.of(
+                    "--server.port=0",
+                    // Actuator on the application port, so the runner can scrape /actuator/prometheus
+                    "--management.server.port=",
+                    "--server.tomcat.threads.max=" + Math.max(200, config.concurrency()),
+                    "--app.threads.mode=" + config.threadMode(),
+                    "--app.jwt.secret=load-test-secret-load-test-secret-load-test-secret",
+                    "--app.jwt.expiration=120",
+                    "--app.auth.bcrypt.cost=10",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.nithish9020=WARN"));
+            placeholders().forEach(key -> args.add("--" + key + "=load-test"));
+
+            // DevTools would restart the context on a fresh thread and re-run LoadTestRunner.main
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            SpringApplication app = new SpringApplication(BackendApplication.class);
+            app.addInitializers(new ThreadingMode.Initializer());
+            return new LoadTestHarness(standIns, app.run(args.toArray(String[]::new)), config.concurrency());
+        } catch (Exception | Error e) {
+            standIns.close();
+            throw e;
+        }
+    }
+
+    // OAuth settings without defaults in application.properties; the scenarios never call the providers
+    private static List<String> placeholders() {
+        List<String> keys = new ArrayList<>();
+        for (String provider : List.of("google", "microsoft")) {
+            for (String flow : List.of("oauth", "calendar")) {
+                for (String key : List.of("client-id", "client-secret", "redirect-uri", "scope")) {
+                    keys.add(provider + "." + flow + "." + key);
+                }
+            }
+        }
+        keys.add("microsoft.oauth.tenant-id");
+        keys.add("microsoft.calendar.tenant-id");
+        return keys;
+    }
+
+    LoadClient client() {
+        return client;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // Verified local users written straight to the user store, each with a ready-made JWT
+    List<Account> seedUsers(String prefix, int count, ROLE role) {
+        UserRepository users = bean(UserRepository.class);
+        UserCache userCache = bean(UserCache.class);
+        JwtService jwtService = bean(JwtService.class);
+        String passwordHash = bean(PasswordEncoder.class)
+                .encode("load-test-password");
+
+        List<Account> accounts = new ArrayList<>(count);
+        List<User> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < count; i++) {
+            String email = prefix + "-" + i + "@loadtest.local";
+            batch.add(User.builder()
+                    .name(prefix + " " + i)
+                    .email(email)
+                    .passwordHash(passwordHash)
+                    .emailVerified(true)
+                    .createdAt(Instant.now())
+                    .role(role)
+                    .build());
+            accounts.add(new Account(email, jwtService.generateToken(email)));
+            if (batch.size() == SEED_BATCH || i == count - 1) {
+                users.saveAll(batch).forEach(user -> userCache.registered(user.getEmail()));
+                batch.clear();
+            }
+        }
+        return accounts;
+    }
+
+    // Runs the tasks on the client threads, all released at once so they contend from the first request
+    void runConcurrently(List<? extends Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(workers.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        workers.shutdownNow();
+        try {
+            context.close();
+        } finally {
+            standIns.close();
+        }
+    }
+
+    record Account(String email, String token) {
+    }
+}
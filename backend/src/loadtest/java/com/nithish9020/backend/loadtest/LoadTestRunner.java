@@ -0,0 +1,74 @@
+package com.nithish9020.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nithish9020.backend.loadtest.LatencyRecorder.OperationStats;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Entry point of the {@code load-test} profile. Boots the backend against the
+ * stand-ins, runs the selected scenarios one after another, prints latency,
+ * throughput and check results, and writes them as JSON to the report file.
+ * The backend's Prometheus scrape at the end of the run is saved next to it.
+ * Exits with status 1 when any check fails.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Map<String, Scenario> available = Stream.of(new BulkInterviewCreation(), new BookingStorm(false),
+                new BookingStorm(true), new DashboardPolling(), new InterviewerListing())
+                .collect(Collectors.toMap(Scenario::name, Function.identity()));
+
+        List<Scenario.Report> reports = new ArrayList<>();
+        try (LoadTestHarness harness = LoadTestHarness.start(config)) {
+            for (String name : config.scenarios()) {
+                Scenario scenario = available.get(name);
+                if (scenario == null) {
+                    throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of "
+                            + available.keySet());
+                }
+                System.out.printf("%n== %s ==%n", name);
+                Scenario.Report report = scenario.run(harness, config);
+                print(report);
+                reports.add(report);
+            }
+            // The backend's own view of the run: service timers, booking conflicts, pools
+            LoadClient.Response metrics = harness.client().get("/actuator/prometheus", null);
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            Files.writeString(config.report().resolveSibling("loadtest-metrics.prom"), metrics.body());
+        }
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.report().toFile(), Map.of("config", config.toString(), "scenarios", reports));
+        System.out.printf("%nReport written to %s%n", config.report().toAbsolutePath());
+
+        boolean passed = reports.stream().allMatch(Scenario.Report::passed);
+        System.out.println(passed ? "All checks passed" : "Some checks FAILED");
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static void print(Scenario.Report report) {
+        System.out.printf("%-20s %8s %7s %9s %9s %9s %9s%n", "operation", "count", "errors", "p50 ms", "p99 ms",
+                "max ms", "req/s");
+        for (OperationStats op : report.operations()) {
+            System.out.printf("%-20s %8d %7d %9.2f %9.2f %9.2f %9.1f%n", op.operation(), op.count(), op.errors(),
+                    op.p50Millis(), op.p99Millis(), op.maxMillis(), op.perSecond());
+        }
+        System.out.printf("elapsed %,d ms%n", report.elapsedMillis());
+        report.measurements().forEach((name, value) -> System.out.printf("%s: %s%n", name, value));
+        for (Scenario.Check check : report.checks()) {
+            System.out.printf("[%s] %s (%s)%n", check.passed() ? "PASS" : "FAIL", check.name(), check.detail());
+        }
+    }
+}
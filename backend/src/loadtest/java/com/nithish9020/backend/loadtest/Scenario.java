@@ -0,0 +1,45 @@
+package com.nithish9020.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One scripted workload. A scenario seeds what it needs, drives the backend
+ * over HTTP and then checks the stored state for invariants the traffic must
+ * not break.
+ */
+interface Scenario {
+
+    String name();
+
+    Report run(LoadTestHarness harness, LoadTestConfig config) throws Exception;
+
+    record Check(String name, boolean passed, String detail) {
+    }
+
+    record Report(String scenario, long elapsedMillis, List<LatencyRecorder.OperationStats> operations,
+            Map<String, Object> measurements, List<Check> checks) {
+
+        boolean passed() {
+            return checks.stream().allMatch(Check::passed);
+        }
+    }
+
+    // Collects checks while a scenario verifies its results
+    final class Checks {
+        private final List<Check> checks = new ArrayList<>();
+
+        void expect(String name, boolean passed, String detail) {
+            checks.add(new Check(name, passed, detail));
+        }
+
+        void expectEqual(String name, long expected, long actual) {
+            expect(name, expected == actual, "expected " + expected + ", got " + actual);
+        }
+
+        List<Check> list() {
+            return checks;
+        }
+    }
+}
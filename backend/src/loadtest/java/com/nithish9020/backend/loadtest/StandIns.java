@@ -0,0 +1,74 @@
+package com.nithish9020.backend.loadtest;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * In-process replacements for the backend's four external services, each on a
+ * free local port: an in-memory MongoDB wire-protocol server, a Redis mock with
+ * Lua and pub/sub, H2 in MySQL mode, and a GreenMail SMTP server. They are
+ * functional stand-ins, so the numbers show contention inside the backend, not
+ * the latency of the real stores.
+ */
+final class StandIns implements AutoCloseable {
+    private final MongoServer mongo;
+    private final InetSocketAddress mongoAddress;
+    private final RedisServer redis;
+    private final GreenMail smtp;
+
+    private StandIns(MongoServer mongo, InetSocketAddress mongoAddress, RedisServer redis, GreenMail smtp) {
+        this.mongo = mongo;
+        this.mongoAddress = mongoAddress;
+        this.redis = redis;
+        this.smtp = smtp;
+    }
+
+    static StandIns start() throws IOException {
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        RedisServer redis = RedisServer.newRedisServer();
+        redis.start();
+        GreenMail smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+        return new StandIns(mongo, mongoAddress, redis, smtp);
+    }
+
+    GreenMail smtp() {
+        return smtp;
+    }
+
+    // Command-line properties pointing the backend at the stand-ins; these win over application.properties
+    List<String> applicationArguments() {
+        return List.of(
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort(),
+                "--spring.data.mongodb.database=loadtest",
+                // The in-memory server has no change streams, so candidates read through the view cache
+                "--app.availability.index.enabled=false",
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getBindPort(),
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtp.getSmtp().getPort(),
+                "--spring.mail.properties.mail.smtp.auth=false",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--spring.mail.properties.mail.smtp.starttls.required=false");
+    }
+
+    @Override
+    public void close() throws IOException {
+        smtp.stop();
+        redis.stop();
+        mongo.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.nithish9020.backend.loadtest;
+
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.config.ThreadingMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request throughput with platform and virtual threads for handlers
+ * that spend most of their time blocked on I/O, as ours do (Mongo, MySQL,
+ * Redis, SMTP). Platform mode gets Tomcat's default 200 request threads.
+ * Each simulated request sleeps for the given I/O time.
+ * <p>
+ * Usage: {@code ThreadModeComparison [requests] [ioMillis]}. Virtual mode is
+ * skipped on runtimes older than Java 21. It needs none of the stand-ins, so
+ * it runs on its own rather than through {@link LoadTestRunner}, which makes
+ * the same comparison against the running application.
+ */
+public final class ThreadModeComparison {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        long ioMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+
+        run("platform", new BlockingExecutors(false).newExecutor("platform", TOMCAT_MAX_THREADS), requests, ioMillis);
+        if (ThreadingMode.virtualThreadsSupported()) {
+            run("virtual", new BlockingExecutors(true).newExecutor("virtual", 0), requests, ioMillis);
+        } else {
+            System.out.printf("virtual : skipped, needs Java 21+ (running %d)%n", Runtime.version().feature());
+        }
+    }
+
+    private static void run(String mode, ExecutorService executor, int requests, long ioMillis)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        List<Long> latencies = new ArrayList<>(requests);
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(ioMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                long latency = System.nanoTime() - submitted;
+                synchronized (latencies) {
+                    latencies.add(latency);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        latencies.sort(null);
+        System.out.printf("%-8s: %,d req in %,d ms = %,.0f req/s, p50 %d ms, p99 %d ms%n", mode, requests,
+                elapsed / 1_000_000, requests * 1e9 / elapsed,
+                latencies.get(requests / 2) / 1_000_000, latencies.get(requests * 99 / 100) / 1_000_000);
+    }
+}
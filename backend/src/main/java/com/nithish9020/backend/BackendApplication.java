@@ -3,13 +3,15 @@ package com.nithish9020.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import com.nithish9020.backend.config.EnvConfig;
+import com.nithish9020.backend.config.ThreadingMode;
 
 @SpringBootApplication
 public class BackendApplication {
 
 	public static void main(String[] args) {
 		SpringApplication app = new SpringApplication(BackendApplication.class);
-		app.addInitializers(new EnvConfig());
+		// .env first, so THREAD_MODE can come from it
+		app.addInitializers(new EnvConfig(), new ThreadingMode.Initializer());
 		app.run(args);
 	}
 }
\ No newline at end of file
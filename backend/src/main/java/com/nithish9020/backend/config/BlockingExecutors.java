@@ -0,0 +1,48 @@
+package com.nithish9020.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Executors for the background workers (interview jobs, mail senders) in the configured ThreadingMode
+@Component
+public class BlockingExecutors {
+    private final boolean virtual;
+
+    public BlockingExecutors(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual && ThreadingMode.virtualThreadsSupported();
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    // Callers bound their own concurrency, so in virtual mode every task simply gets its own thread
+    public ExecutorService newExecutor(String name, int platformThreads) {
+        if (virtual) {
+            return newVirtualExecutor(name);
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(platformThreads,
+                task -> new Thread(task, name + "-" + count.incrementAndGet()));
+    }
+
+    // Looked up reflectively so the code still compiles for Java 17
+    private static ExecutorService newVirtualExecutor(String name) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+}
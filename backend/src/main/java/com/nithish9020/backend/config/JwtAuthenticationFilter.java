@@ -0,0 +1,89 @@
+package com.nithish9020.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Verifies the bearer token once per request and exposes the email as the principal.
+// Bad tokens are answered with 401 here, before any controller is invoked. The slot
+// stream, opened by EventSource without headers, takes a stream token as ?token= instead.
+// Only the stream's query string is read: getParameter would make the container parse
+// form and multipart bodies of every other request.
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Pattern SLOT_STREAM = Pattern.compile("/api/interviews/([^/]+)/slots/stream");
+
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        boolean bearer = header != null && header.startsWith(BEARER_PREFIX);
+        Matcher stream = SLOT_STREAM.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        String streamToken = !bearer && stream.matches() ? queryParameter(request.getQueryString(), "token") : null;
+        if (!bearer && streamToken == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String email;
+        try {
+            email = bearer
+                    ? jwtService.validateAndGetSubject(header.substring(BEARER_PREFIX.length()))
+                    : jwtService.validateStreamToken(streamToken, stream.group(1));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected token for {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+            writeUnauthorized(response, objectMapper, "Invalid or expired token");
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    private static String queryParameter(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    static void writeUnauthorized(HttpServletResponse response, ObjectMapper objectMapper, String message)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+    }
+}
@@ -0,0 +1,116 @@
+package com.nithish9020.backend.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nithish9020.backend.dto.AvailabilityIndexStats;
+import com.nithish9020.backend.dto.MailQueueStats;
+import com.nithish9020.backend.dto.PasswordHashingStats;
+import com.nithish9020.backend.dto.UserCacheStats;
+import com.nithish9020.backend.dto.ViewCacheStats;
+import com.nithish9020.backend.service.AvailabilityIndex;
+import com.nithish9020.backend.service.CandidateViewCache;
+import com.nithish9020.backend.service.JwtService;
+import com.nithish9020.backend.service.MailQueueService;
+import com.nithish9020.backend.service.PasswordHasher;
+import com.nithish9020.backend.service.SlotFeedService;
+import com.nithish9020.backend.service.UserCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the counters each subsystem already keeps (its getStats()) as
+ * gauges and function counters. Service latencies are timed by ServiceMetrics;
+ * MongoDB, Lettuce, HikariCP, Tomcat and JVM metrics come from Spring Boot's
+ * auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+    // One stats snapshot serves every meter read in the same scrape; mail stats cost Redis round trips
+    private static final long SNAPSHOT_MILLIS = 1000;
+
+    @Bean
+    public MeterBinder subsystemStatsMetrics(PasswordHasher passwordHasher, MailQueueService mailQueue,
+            CandidateViewCache viewCache, UserCache userCache, SlotFeedService slotFeed, JwtService jwtService,
+            AvailabilityIndex availabilityIndex) {
+        // Held by the binder: gauges and function counters only keep weak references to their source
+        Supplier<PasswordHashingStats> hashing = snapshot(passwordHasher::getStats);
+        Supplier<MailQueueStats> mail = snapshot(mailQueue::getStats);
+        Supplier<ViewCacheStats> views = snapshot(viewCache::getStats);
+        Supplier<UserCacheStats> users = snapshot(userCache::getStats);
+        Supplier<CacheStats> tokens = snapshot(jwtService::getVerificationCacheStats);
+        Supplier<AvailabilityIndexStats> availability = snapshot(availabilityIndex::getStats);
+        return registry -> {
+            gauge(registry, "app.auth.hash.queued", hashing, PasswordHashingStats::getQueued);
+            gauge(registry, "app.auth.hash.cost", hashing, PasswordHashingStats::getCost);
+            counter(registry, "app.auth.hash.completed", hashing, PasswordHashingStats::getCompleted);
+            counter(registry, "app.auth.hash.rejected", hashing, PasswordHashingStats::getRejected);
+            counter(registry, "app.auth.hash.timed.out", hashing, PasswordHashingStats::getTimedOut);
+
+            gauge(registry, "app.mail.queued", mail, MailQueueStats::getQueued);
+            gauge(registry, "app.mail.in.flight", mail, MailQueueStats::getInFlight);
+            gauge(registry, "app.mail.retrying", mail, MailQueueStats::getRetrying);
+            gauge(registry, "app.mail.dead.lettered", mail, MailQueueStats::getDeadLettered);
+            counter(registry, "app.mail.sent", mail, MailQueueStats::getSent);
+            counter(registry, "app.mail.failed.attempts", mail, MailQueueStats::getFailedAttempts);
+
+            counter(registry, "app.views.local.hits", views, ViewCacheStats::getLocalHits);
+            counter(registry, "app.views.redis.hits", views, ViewCacheStats::getRedisHits);
+            counter(registry, "app.views.misses", views, ViewCacheStats::getMisses);
+            counter(registry, "app.views.invalidations", views, ViewCacheStats::getInvalidations);
+            gauge(registry, "app.views.served.age.max", views, ViewCacheStats::getMaxServedAgeMillis);
+
+            counter(registry, "app.users.local.hits", users, UserCacheStats::getLocalHits);
+            counter(registry, "app.users.redis.hits", users, UserCacheStats::getRedisHits);
+            counter(registry, "app.users.database.loads", users, UserCacheStats::getDatabaseLoads);
+            counter(registry, "app.users.bloom.negatives", users, UserCacheStats::getBloomNegatives);
+
+            counter(registry, "app.jwt.cache.hits", tokens, CacheStats::hitCount);
+            counter(registry, "app.jwt.cache.misses", tokens, CacheStats::missCount);
+
+            gauge(registry, "app.availability.ready", availability, stats -> stats.isReady() ? 1 : 0);
+            gauge(registry, "app.availability.interviews", availability, AvailabilityIndexStats::getInterviews);
+            gauge(registry, "app.availability.lag", availability, AvailabilityIndexStats::getLagMillis);
+            counter(registry, "app.availability.events", availability, AvailabilityIndexStats::getEvents);
+            counter(registry, "app.availability.rebuilds", availability, AvailabilityIndexStats::getRebuilds);
+            counter(registry, "app.availability.snapshot.resumes", availability,
+                    AvailabilityIndexStats::getSnapshotResumes);
+
+            Gauge.builder("app.slots.stream.connections", slotFeed::getConnectionCount).register(registry);
+            FunctionCounter.builder("app.slots.stream.dropped", slotFeed, SlotFeedService::getDroppedCount)
+                    .register(registry);
+        };
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, Supplier<T> stats,
+            ToDoubleFunction<T> value) {
+        Gauge.builder(name, stats, s -> value.applyAsDouble(s.get())).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, Supplier<T> stats,
+            ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, stats, s -> value.applyAsDouble(s.get())).register(registry);
+    }
+
+    private static <T> Supplier<T> snapshot(Supplier<T> stats) {
+        return new Supplier<>() {
+            private T value;
+            private long takenAt;
+
+            @Override
+            public synchronized T get() {
+                long now = System.currentTimeMillis();
+                if (value == null || now - takenAt >= SNAPSHOT_MILLIS) {
+                    value = stats.get();
+                    takenAt = now;
+                }
+                return value;
+            }
+        };
+    }
+}
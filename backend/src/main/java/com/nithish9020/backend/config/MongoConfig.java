@@ -0,0 +1,43 @@
+package com.nithish9020.backend.config;
+
+import com.nithish9020.backend.entity.SlotGrid;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class MongoConfig {
+
+    // Interview.timeSlots keeps its stored {date -> {time -> applicantEmail}} shape, which the
+    // per-slot claim and release updates address by path, and is decoded straight into a SlotGrid
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(new SlotGridReader(), new SlotGridWriter()));
+    }
+
+    @ReadingConverter
+    static class SlotGridReader implements Converter<Document, SlotGrid> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public SlotGrid convert(Document source) {
+            return SlotGrid.of((Map<String, Map<String, ?>>) (Map<String, ?>) source);
+        }
+    }
+
+    @WritingConverter
+    static class SlotGridWriter implements Converter<SlotGrid, Document> {
+        @Override
+        public Document convert(SlotGrid source) {
+            Document timeSlots = new Document();
+            source.toMap().forEach((date, slots) -> timeSlots.put(date, new Document(slots)));
+            return timeSlots;
+        }
+    }
+}
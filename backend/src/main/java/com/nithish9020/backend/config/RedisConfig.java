@@ -1,19 +1,30 @@
 // src/main/java/com/nithish9020/backend/config/RedisConfig.java
 package com.nithish9020.backend.config;
 
+import io.lettuce.core.resource.ClientResources;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.*;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
 
-    // Creates a lettuce-based connection factory (uses spring.redis.* props)
+    // Creates a lettuce-based connection factory for spring.data.redis.host/port.
+    // Boot's shared ClientResources carry the Micrometer command latency recorder.
     @Bean
-    public LettuceConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory();
+    public LettuceConnectionFactory redisConnectionFactory(
+            @Value("${spring.data.redis.host:localhost}") String host,
+            @Value("${spring.data.redis.port:6379}") int port,
+            ObjectProvider<ClientResources> clientResources) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder();
+        clientResources.ifAvailable(client::clientResources);
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), client.build());
     }
 
     // Simple StringRedisTemplate for storing string keys/values (OTP)
@@ -21,4 +32,12 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    // Pub/sub subscriptions shared by all listeners (e.g. view cache invalidation)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,10 @@
+package com.nithish9020.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background pollers, e.g. InterviewJobService picking up queued and orphaned jobs
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
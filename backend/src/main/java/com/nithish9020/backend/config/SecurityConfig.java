@@ -1,22 +1,37 @@
 // src/main/java/com/nithish9020/backend/config/SecurityConfig.java
 package com.nithish9020.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.service.JwtService;
+import com.nithish9020.backend.service.PasswordHasher;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class SecurityConfig {
 
+    // BCrypt runs on PasswordHasher's bounded pool, at its configured or calibrated cost
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHasher passwordHasher) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return passwordHasher.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return passwordHasher.matches(rawPassword, encodedPassword);
+            }
+        };
     }
 
     // Allow CORS
@@ -34,15 +49,27 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService, ObjectMapper objectMapper)
+            throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> {
                 }) // enable CORS
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches of streamed responses (SSE, StreamingResponseBody) were
+                        // already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll())
                 .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Missing token on a protected endpoint
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint((request, response, e) -> JwtAuthenticationFilter
+                                .writeUnauthorized(response, objectMapper, "Authentication required")))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, objectMapper),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,51 @@
+package com.nithish9020.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How blocking work is run: {@code platform} (Tomcat's thread pool and fixed
+ * worker pools) or {@code virtual} (a virtual thread per request and per
+ * background task). Chosen with {@code app.threads.mode} / {@code THREAD_MODE}.
+ * Virtual threads need a Java 21 runtime; on older runtimes the mode falls
+ * back to platform with a warning.
+ */
+public enum ThreadingMode {
+    PLATFORM, VIRTUAL;
+
+    public static final String PROPERTY = "app.threads.mode";
+
+    public static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    // Turns the mode into Spring Boot's own switch before the web server and executors are created
+    public static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+        private static final Logger log = LoggerFactory.getLogger(ThreadingMode.class);
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+            ConfigurableEnvironment environment = applicationContext.getEnvironment();
+            ThreadingMode mode = ThreadingMode.valueOf(
+                    environment.getProperty(PROPERTY, "platform").trim().toUpperCase(Locale.ROOT));
+
+            if (mode == VIRTUAL && !virtualThreadsSupported()) {
+                log.warn("Virtual threads need Java 21+, running on Java {}; using platform threads",
+                        Runtime.version().feature());
+                mode = PLATFORM;
+            }
+            log.info("Request and background work run on {} threads", mode.name().toLowerCase(Locale.ROOT));
+
+            environment.getPropertySources().addFirst(new MapPropertySource("threadingMode", Map.of(
+                    PROPERTY, mode.name().toLowerCase(Locale.ROOT),
+                    "spring.threads.virtual.enabled", String.valueOf(mode == VIRTUAL))));
+        }
+    }
+}
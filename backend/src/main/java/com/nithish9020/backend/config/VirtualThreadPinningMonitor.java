@@ -0,0 +1,94 @@
+package com.nithish9020.backend.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In virtual mode, reports virtual threads that block while pinned to their
+ * carrier, e.g. inside a synchronized block in a JDBC or JavaMail call. It
+ * listens for the JFR event jdk.VirtualThreadPinned in-process, logs the
+ * first occurrence of each call site and counts every occurrence.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    private static final int FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${app.threads.pinning-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+        log.info("Watching for virtual threads pinned longer than {} ms", threshold.toMillis());
+    }
+
+    // Pinned occurrences per call site (top application-relevant frame)
+    public Map<String, Long> getPinnedCounts() {
+        return pinnedBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private void record(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return;
+        }
+        String site = site(event);
+        LongAdder count = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            String frames = event.getStackTrace().getFrames().stream()
+                    .limit(FRAMES)
+                    .map(VirtualThreadPinningMonitor::frame)
+                    .collect(Collectors.joining("\n    at "));
+            log.warn("Virtual thread pinned for {} ms at {}:\n    at {}", event.getDuration().toMillis(), site,
+                    frames);
+        }
+    }
+
+    // First frame outside the JDK, which is where the monitor was entered from
+    private static String site(RecordedEvent event) {
+        return event.getStackTrace().getFrames().stream()
+                .filter(frame -> frame.isJavaFrame())
+                .map(VirtualThreadPinningMonitor::frame)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.")
+                        && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(frame(event.getStackTrace().getFrames().get(0)));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
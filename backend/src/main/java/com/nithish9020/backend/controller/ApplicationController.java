@@ -2,10 +2,10 @@ package com.nithish9020.backend.controller;
 
 import com.nithish9020.backend.dto.ApplicationDto;
 import com.nithish9020.backend.service.ApplicationService;
-import com.nithish9020.backend.service.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,12 +17,10 @@ import java.util.Map;
 @Slf4j
 public class ApplicationController {
     private final ApplicationService applicationService;
-    private final JwtService jwtService;
 
     @GetMapping("/my-applications")
-    public ResponseEntity<?> getMyApplications(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getMyApplications(@AuthenticationPrincipal String email) {
         try {
-            String email = jwtService.getUsernameFromToken(authHeader.substring(7));
             log.info("Fetching applications for user: {}", email);
 
             List<ApplicationDto> applications = applicationService.getMyApplications(email);
@@ -37,12 +35,22 @@ public class ApplicationController {
         }
     }
 
+    @GetMapping("/my-bookings")
+    public ResponseEntity<?> getMyBookings(@AuthenticationPrincipal String email) {
+        try {
+            List<ApplicationDto> bookings = applicationService.getMyBookings(email);
+            return ResponseEntity.ok(bookings);
+        } catch (Exception e) {
+            log.error("Error fetching bookings: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getApplicationById(
             @PathVariable String id,
-            @RequestHeader("Authorization") String authHeader) {
+            @AuthenticationPrincipal String email) {
         try {
-            String email = jwtService.getUsernameFromToken(authHeader.substring(7));
             ApplicationDto application = applicationService.getApplicationById(id, email);
             return ResponseEntity.ok(application);
         } catch (Exception e) {
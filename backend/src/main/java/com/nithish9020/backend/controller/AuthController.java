@@ -8,7 +8,12 @@ import com.nithish9020.backend.dto.OAuthRequest;
 import com.nithish9020.backend.dto.SignupRequest.ROLE;
 import com.nithish9020.backend.entity.User;
 import com.nithish9020.backend.service.*;
+import com.nithish9020.backend.service.OtpService.Outcome;
+import com.nithish9020.backend.service.OtpService.Verification;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,24 +28,30 @@ public class AuthController {
     private final OtpService otpService;
     private final EmailService emailService;
     private final JwtService jwtService;
-    private final RedisService redisService; // Add RedisService
     private final OAuthService oAuthService;
+    private final AuthRateLimiter rateLimiter;
 
     // Step A: start signup -> create user (unverified), generate OTP, email it
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody SignupRequest req) {
+    public ResponseEntity<?> signup(@RequestBody SignupRequest req, HttpServletRequest http) {
         String email = req.getEmail().toLowerCase();
+        try {
+            rateLimiter.check("signup", http.getRemoteAddr(), email);
+            return startSignup(req, email);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
+        }
+    }
+
+    private ResponseEntity<?> startSignup(SignupRequest req, String email) {
 
         if (userService.findByEmail(email).isPresent()) {
             return ResponseEntity.badRequest().body("Email already registered");
         }
 
-        // Hash password and store user data in Redis
+        // Hash password, then store user data and a fresh OTP together in Redis
         String passwordHash = userService.encodePassword(req.getPassword());
-        redisService.saveTempUser(email, req.getName(), passwordHash, req.getRole()); // implement this
-
-        // generate OTP, store in Redis, send email
-        String otp = otpService.generateOtp(email);
+        String otp = otpService.startSignup(new TempUser(req.getName(), email, passwordHash, req.getRole()));
         emailService.sendOtp(email, otp);
 
         return ResponseEntity.ok("Signup started. Check your email for the OTP (10 min).");
@@ -50,19 +61,18 @@ public class AuthController {
     @PostMapping("/verify-otp")
     public ResponseEntity<?> verifyOtp(@RequestBody VerifyOtpRequest req) {
         String email = req.getEmail().toLowerCase();
-        boolean ok = otpService.verifyOtp(email, req.getCode());
-        if (!ok)
+        // Checks the code and takes the pending user out of Redis in one atomic step
+        Verification verification = otpService.verifyAndConsume(email, req.getCode());
+        if (verification.outcome() == Outcome.TOO_MANY_ATTEMPTS)
+            return ResponseEntity.badRequest().body("Too many incorrect attempts. Please sign up again.");
+        if (verification.outcome() != Outcome.VERIFIED)
             return ResponseEntity.badRequest().body("Invalid or expired OTP");
 
-        // Get user data from Redis and save to DB
-        TempUser tempUser = redisService.getTempUser(email); // implement this
-        if (tempUser == null)
-            return ResponseEntity.badRequest().body("Signup expired. Please try again.");
-
+        // Save the user to DB
+        TempUser tempUser = verification.user();
         User saved = userService.createLocalUser(tempUser.getName(), email, tempUser.getPasswordHash(),
                 tempUser.getRole());
         userService.markVerified(email);
-        redisService.deleteTempUser(email);
 
         String token = jwtService.generateToken(email);
         return ResponseEntity.ok(new AuthResponse("Email verified. Logged in", token, saved.getRole(), saved.getName(),
@@ -71,8 +81,17 @@ public class AuthController {
 
     // Optional: login endpoint (email+password) - returns JWT if verified already
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody SignupRequest req) {
+    public ResponseEntity<?> login(@RequestBody SignupRequest req, HttpServletRequest http) {
         String email = req.getEmail().toLowerCase();
+        try {
+            rateLimiter.check("login", http.getRemoteAddr(), email);
+            return authenticate(req, email);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
+        }
+    }
+
+    private ResponseEntity<?> authenticate(SignupRequest req, String email) {
         if (!userService.authenticate(email, req.getPassword())) {
             return ResponseEntity.badRequest().body("Invalid credentials");
         }
@@ -98,6 +117,13 @@ public class AuthController {
         }
     }
 
+    // Rate limited, or the password hashing pool is saturated
+    private ResponseEntity<?> tooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
     // Simple response DTO inline
     record AuthResponse(String message, String token, ROLE role, String name, String email) {
     }
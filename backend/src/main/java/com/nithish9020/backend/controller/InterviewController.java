@@ -2,20 +2,34 @@ package com.nithish9020.backend.controller;
 
 import com.nithish9020.backend.dto.BookSlotRequest;
 import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.CreateInterviewResponse;
+import com.nithish9020.backend.dto.ExcelImportSummary;
 import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.dto.InterviewJobStatus;
+import com.nithish9020.backend.dto.SlotHold;
 import com.nithish9020.backend.entity.Interview;
 import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import com.nithish9020.backend.service.InterviewJobService;
 import com.nithish9020.backend.service.InterviewService;
 import com.nithish9020.backend.service.JwtService;
+import com.nithish9020.backend.service.SlotFeedService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/interviews")
@@ -23,19 +37,22 @@ import java.util.Map;
 @Slf4j
 public class InterviewController {
     private final InterviewService interviewService;
+    private final InterviewJobService interviewJobService;
+    private final SlotFeedService slotFeedService;
     private final JwtService jwtService;
 
     @PostMapping("/process-excel")
     public ResponseEntity<?> processExcel(@RequestParam("file") MultipartFile file) {
         try {
             log.info("Received Excel file: {}", file.getOriginalFilename());
-            List<CandidateDto> candidates = interviewService.processExcelFile(file);
-            log.info("Successfully processed {} candidates", candidates.size());
+            List<CandidateDto> candidates = new ArrayList<>();
+            ExcelImportSummary summary = interviewService.processExcelFile(file, candidates::add);
 
             // Return a structured response
             Map<String, Object> response = new HashMap<>();
             response.put("candidates", candidates);
             response.put("count", candidates.size());
+            response.put("summary", summary);
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -45,17 +62,29 @@ public class InterviewController {
         }
     }
 
+    // Same as process-excel, but candidates are written to the response as rows are parsed
+    @PostMapping(value = "/process-excel/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> processExcelStream(@RequestParam("file") MultipartFile file) {
+        try {
+            log.info("Received Excel file for streaming: {}", file.getOriginalFilename());
+            StreamingResponseBody body = interviewService.streamExcelFile(file);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (Exception e) {
+            log.error("Error processing Excel file: ", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> createInterview(
             @RequestBody CreateInterviewRequest request,
-            @RequestHeader("Authorization") String authHeader) {
+            @AuthenticationPrincipal String createdBy) {
         try {
             log.info("Creating interview: {}", request.getInterviewName());
-            // Change to use the correct method name from JwtService
-            String createdBy = jwtService.getUsernameFromToken(authHeader.substring(7));
-            String interviewId = interviewService.createInterview(request, createdBy);
-            log.info("Interview created successfully with ID: {}", interviewId);
-            return ResponseEntity.ok(Map.of("id", interviewId));
+            CreateInterviewResponse response = interviewService.createInterview(request, createdBy);
+            log.info("Interview created successfully with ID: {}", response.getId());
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("Error creating interview: ", e);
             return ResponseEntity.badRequest()
@@ -63,18 +92,53 @@ public class InterviewController {
         }
     }
 
+    // Large interviews: parse, validate and persist in the background and poll the job for progress
+    @PostMapping(value = "/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> submitInterviewJob(
+            @RequestPart("interview") CreateInterviewRequest request,
+            @RequestPart(value = "file", required = false) MultipartFile file,
+            @AuthenticationPrincipal String createdBy) {
+        try {
+            String jobId = interviewJobService.submit(request, file, createdBy);
+            return ResponseEntity.accepted().body(Map.of("id", jobId));
+        } catch (Exception e) {
+            log.error("Error submitting interview job: ", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<?> getInterviewJob(
+            @PathVariable String id,
+            @AuthenticationPrincipal String username) {
+        try {
+            InterviewJobStatus status = interviewJobService.getJob(id, username);
+            return ResponseEntity.ok(status);
+        } catch (Exception e) {
+            log.error("Error fetching interview job: ", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Summaries only, newest first; pass nextCursor back as cursor for the following page
     @GetMapping("/my-interviews")
-    public ResponseEntity<?> getMyInterviews(@RequestHeader("Authorization") String authHeader) {
-        String createdBy = jwtService.getUsernameFromToken(authHeader.substring(7));
-        List<Interview> interviews = interviewService.getInterviewsByCreator(createdBy);
-        return ResponseEntity.ok(interviews);
+    public ResponseEntity<?> getMyInterviews(
+            @AuthenticationPrincipal String createdBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(interviewService.getInterviewsByCreator(createdBy, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteInterview(
             @PathVariable String id,
-            @RequestHeader("Authorization") String authHeader) {
-        String createdBy = jwtService.getUsernameFromToken(authHeader.substring(7));
+            @AuthenticationPrincipal String createdBy) {
         interviewService.deleteInterview(id, createdBy);
         return ResponseEntity.ok().build();
     }
@@ -82,9 +146,8 @@ public class InterviewController {
     @GetMapping("/{id}")
     public ResponseEntity<?> getInterviewById(
             @PathVariable String id,
-            @RequestHeader("Authorization") String authHeader) {
+            @AuthenticationPrincipal String username) {
         try {
-            String username = jwtService.getUsernameFromToken(authHeader.substring(7));
             Interview interview = interviewService.getInterviewById(id, username);
             return ResponseEntity.ok(interview);
         } catch (Exception e) {
@@ -95,9 +158,8 @@ public class InterviewController {
     }
 
     @GetMapping("/available")
-    public ResponseEntity<?> getAvailableInterviews(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getAvailableInterviews(@AuthenticationPrincipal String email) {
         try {
-            String email = jwtService.getUsernameFromToken(authHeader.substring(7));
             log.info("Fetching available interviews for user: {}", email);
             List<InterviewDto> interviews = interviewService.getAvailableInterviews(email);
             return ResponseEntity.ok(interviews);
@@ -107,19 +169,111 @@ public class InterviewController {
         }
     }
 
+    @GetMapping("/{id}/slots")
+    public ResponseEntity<?> getFreeSlots(
+            @PathVariable String id,
+            @RequestParam String date) {
+        try {
+            List<String> freeSlots = interviewService.getFreeSlots(id, date);
+            return ResponseEntity.ok(Map.of("date", date, "freeSlots", freeSlots));
+        } catch (Exception e) {
+            log.error("Error fetching free slots: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Pushes batches of booked/released slots for the interview as they happen. Browsers open it
+    // as /slots/stream?token=... with a token from /slots/stream-token, since EventSource has no headers.
+    @GetMapping(value = "/{id}/slots/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSlots(@PathVariable String id) {
+        return slotFeedService.subscribe(id);
+    }
+
+    @PostMapping("/{id}/slots/stream-token")
+    public ResponseEntity<?> streamToken(
+            @PathVariable String id,
+            @AuthenticationPrincipal String email) {
+        return ResponseEntity.ok(Map.of("token", jwtService.generateStreamToken(email, id)));
+    }
+
     @PostMapping("/{id}/book")
     public ResponseEntity<?> bookSlot(
             @PathVariable String id,
             @RequestBody BookSlotRequest request,
-            @RequestHeader("Authorization") String authHeader) {
+            @AuthenticationPrincipal String email) {
         try {
-            String email = jwtService.getUsernameFromToken(authHeader.substring(7));
             log.info("Booking slot for user: {} in interview: {}", email, id);
-            interviewService.bookSlot(id, request.getDate(), request.getTimeSlot(), email);
+            ClaimResult result = interviewService.bookSlot(id, request.getDate(), request.getTimeSlot(), email);
+            if (result == ClaimResult.ALREADY_TAKEN) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Slot already booked"));
+            }
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.error("Error booking slot: ", e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    // First step of booking: a short lease on the slot, during which it is hidden from other candidates
+    @PostMapping("/{id}/hold")
+    public ResponseEntity<?> holdSlot(
+            @PathVariable String id,
+            @RequestBody BookSlotRequest request,
+            @AuthenticationPrincipal String email) {
+        try {
+            Optional<SlotHold> hold = interviewService.holdSlot(id, request.getDate(), request.getTimeSlot(), email);
+            if (hold.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Slot already taken"));
+            }
+            return ResponseEntity.ok(hold.get());
+        } catch (Exception e) {
+            log.error("Error holding slot: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/hold/confirm")
+    public ResponseEntity<?> confirmHold(
+            @PathVariable String id,
+            @AuthenticationPrincipal String email) {
+        try {
+            log.info("Confirming held slot for user: {} in interview: {}", email, id);
+            ClaimResult result = interviewService.confirmHold(id, email);
+            if (result == ClaimResult.ALREADY_TAKEN) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Slot already booked"));
+            }
+            return ResponseEntity.ok().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error confirming held slot: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/hold")
+    public ResponseEntity<?> releaseHold(
+            @PathVariable String id,
+            @AuthenticationPrincipal String email) {
+        try {
+            interviewService.releaseHold(id, email);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("Error releasing held slot: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/book")
+    public ResponseEntity<?> cancelBooking(
+            @PathVariable String id,
+            @AuthenticationPrincipal String email) {
+        try {
+            interviewService.cancelBooking(id, email);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("Error cancelling booking: ", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 }
\ No newline at end of file
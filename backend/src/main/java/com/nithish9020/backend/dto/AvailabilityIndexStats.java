@@ -0,0 +1,15 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AvailabilityIndexStats {
+    private boolean ready; // false while bootstrapping, reconnecting, or without change streams
+    private int interviews; // open interviews held in memory
+    private long events; // change events applied
+    private long rebuilds; // full loads from the interviews collection
+    private long snapshotResumes; // starts that caught up from a saved snapshot instead of rebuilding
+    private long lagMillis; // age of the last applied change when it was applied
+}
@@ -0,0 +1,26 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class CandidateRegistrationResult {
+    private int inserted; // applicants seen for the first time
+    private int updated; // existing applicants the interview was added to
+    private int failed;
+    private List<ChunkFailure> failedChunks = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkFailure {
+        private int chunk;
+        private int firstCandidate; // index into the submitted candidate list
+        private int failedWrites;
+        private String error;
+    }
+}
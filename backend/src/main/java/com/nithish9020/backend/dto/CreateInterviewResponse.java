@@ -0,0 +1,13 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateInterviewResponse {
+    private String id;
+    private CandidateRegistrationResult candidates;
+}
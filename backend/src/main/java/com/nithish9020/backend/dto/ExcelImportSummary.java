@@ -0,0 +1,43 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ExcelImportSummary {
+    public static final int MAX_REPORTED_ERRORS = 50;
+
+    private int rowsRead;
+    private int candidates;
+    private int duplicates;
+    private int invalidEmails;
+    private int missingFields;
+    private long elapsedMillis;
+    private List<RowError> errors = new ArrayList<>(); // first MAX_REPORTED_ERRORS only
+
+    public void reject(int row, String reason) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(row, reason));
+        }
+    }
+
+    public int getRejected() {
+        return duplicates + invalidEmails + missingFields;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000L / elapsedMillis;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row; // 1-based, as shown in Excel
+        private String reason;
+    }
+}
@@ -0,0 +1,30 @@
+package com.nithish9020.backend.dto;
+
+import com.nithish9020.backend.dto.CandidateRegistrationResult.ChunkFailure;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+public class InterviewJobStatus {
+    private String id;
+    private String status;
+    private String stage;
+    private String interviewId;
+    private int rowsRead;
+    private int candidatesTotal;
+    private int candidatesRegistered;
+    private int percentComplete;
+    private long rowsPerSecond; // Excel parse throughput
+    private long candidatesPerSecond; // registration throughput
+    private int inserted;
+    private int updated;
+    private int failed;
+    private List<ChunkFailure> failedChunks;
+    private ExcelImportSummary importSummary;
+    private String error;
+    private int attempts;
+    private Instant createdAt;
+    private Instant finishedAt;
+}
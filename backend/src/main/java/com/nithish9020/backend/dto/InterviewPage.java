@@ -0,0 +1,13 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class InterviewPage {
+    private List<InterviewSummary> items;
+    private String nextCursor; // null on the last page
+}
@@ -0,0 +1,19 @@
+package com.nithish9020.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One row of the interviewer's listing; the slot grid comes from GET /api/interviews/{id}
+@Data
+public class InterviewSummary {
+    private String id;
+    private String interviewName;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private LocalDateTime createdAt;
+    private int totalSlots;
+    private int bookedSlots;
+    private int openSlots;
+}
@@ -0,0 +1,17 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MailQueueStats {
+    private long queued;
+    private long inFlight;
+    private long retrying;
+    private long deadLettered;
+    private long sent; // since this node started
+    private long failedAttempts;
+    private double meanSendMillis; // per message, SMTP time only
+    private double meanQueueMillis; // enqueue to delivered
+}
@@ -0,0 +1,19 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A queued email as stored (JSON) in the Redis mail queue
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundMail {
+    private String id;
+    private String to;
+    private String subject;
+    private String body;
+    private int attempts;
+    private long enqueuedAt; // epoch millis
+    private String lastError;
+}
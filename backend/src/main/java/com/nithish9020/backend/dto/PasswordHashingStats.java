@@ -0,0 +1,17 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PasswordHashingStats {
+    private int cost; // BCrypt log rounds for new hashes
+    private int workers;
+    private int queued;
+    private long completed;
+    private long rejected; // shed with 429 because the pool was full
+    private long timedOut;
+    private double meanHashMillis;
+    private long maxHashMillis;
+}
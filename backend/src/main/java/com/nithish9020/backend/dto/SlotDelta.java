@@ -0,0 +1,20 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One slot changing state, as published on the slot feed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotDelta {
+    public enum Change {
+        BOOKED, HELD, RELEASED
+    }
+
+    private String interviewId;
+    private String date;
+    private String time;
+    private Change change;
+}
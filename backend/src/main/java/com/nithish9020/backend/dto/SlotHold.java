@@ -0,0 +1,16 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A candidate's pending selection of one slot, which lapses at expiresAt unless confirmed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHold {
+    private String interviewId;
+    private String date;
+    private String time;
+    private long expiresAt; // epoch millis
+}
@@ -0,0 +1,14 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserCacheStats {
+    private long localHits;
+    private long redisHits;
+    private long databaseLoads;
+    private long bloomNegatives; // "not registered" answered without the database
+    private boolean bloomReady;
+}
@@ -0,0 +1,18 @@
+package com.nithish9020.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ViewCacheStats {
+    private long localHits;
+    private long redisHits;
+    private long misses;
+    private double hitRatio;
+    private long localEvictions;
+    private long invalidations;
+    private long staleWritesSkipped; // loads discarded because an invalidation happened meanwhile
+    private double meanServedAgeMillis; // how old cached views are when served
+    private long maxServedAgeMillis;
+}
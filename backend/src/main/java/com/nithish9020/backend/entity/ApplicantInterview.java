@@ -1,11 +1,14 @@
 package com.nithish9020.backend.entity;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Document(collection = "applicants_interview")
@@ -15,5 +18,15 @@ public class ApplicantInterview {
 
     private String name;
     private List<String> interviewIds;
+    private Map<String, Booking> bookings; // interviewId -> booked slot, maintained by bookSlot/cancelBooking
     private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Booking {
+        private String date;
+        private String time;
+        private LocalDateTime bookedAt;
+    }
 }
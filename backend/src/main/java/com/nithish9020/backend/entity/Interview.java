@@ -2,20 +2,29 @@ package com.nithish9020.backend.entity;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Data
 @Document(collection = "interviews")
+@CompoundIndexes({
+        @CompoundIndex(name = "open_interviews", def = "{'toDate': 1, 'openSlots': 1}"),
+        // Interviewer listing: newest first, paged by (createdAt, _id)
+        @CompoundIndex(name = "creator_recent", def = "{'createdBy': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Interview {
     @Id
     private String id;
     private String interviewName;
     private LocalDate fromDate;
     private LocalDate toDate;
-    private Map<String, Map<String, String>> timeSlots; // date -> {time -> applicantEmail}
+    private SlotGrid timeSlots; // stored as date -> {time -> applicantEmail}
+    private Integer totalSlots;
+    private Integer openSlots; // kept in step with timeSlots by createInterview and claimSlot
+    private Boolean slotsNormalized; // true once every slot also exists in the slots collection
     private String createdBy;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+}
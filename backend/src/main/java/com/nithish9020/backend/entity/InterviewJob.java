@@ -0,0 +1,66 @@
+package com.nithish9020.backend.entity;
+
+import com.nithish9020.backend.dto.CandidateRegistrationResult.ChunkFailure;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Document(collection = "interview_jobs")
+@CompoundIndex(name = "claimable_jobs", def = "{'status': 1, 'heartbeatAt': 1}")
+public class InterviewJob {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum Stage {
+        PARSE,
+        PERSIST,
+        DONE
+    }
+
+    @Id
+    private String id;
+    private String createdBy;
+    private Status status;
+    private Stage stage;
+
+    // Input, kept so any node can resume the job
+    private CreateInterviewRequest request;
+    private String fileId; // Excel upload in GridFS, null when candidates came in the request
+    private String fileName;
+
+    // Progress
+    private String interviewId; // assigned up front, so a resumed job saves the same interview document
+    private ExcelImportSummary importSummary;
+    private int rowsRead;
+    private int candidatesTotal;
+    private int candidatesRegistered;
+    private int chunkSize; // fixed on first persist so resumed runs skip exactly the finished chunks
+    private int chunksDone;
+    private int inserted;
+    private int updated;
+    private int failed;
+    private List<ChunkFailure> failedChunks = new ArrayList<>();
+    private String error;
+
+    // Ownership; a RUNNING job whose heartbeat goes stale is picked up by another node
+    private String owner;
+    private int attempts;
+    private Instant heartbeatAt;
+
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant persistStartedAt;
+    private Instant finishedAt;
+}
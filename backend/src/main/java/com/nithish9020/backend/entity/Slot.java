@@ -0,0 +1,24 @@
+package com.nithish9020.backend.entity;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Document(collection = "slots")
+@CompoundIndex(name = "interview_date_time", def = "{'interviewId': 1, 'date': 1, 'time': 1}", unique = true)
+public class Slot {
+    @Id
+    private String id;
+    private String interviewId;
+    private String date; // yyyy-MM-dd, same key as Interview.timeSlots
+    private String time; // HH:mm
+    private String bookedBy; // applicant email, null while free
+    private LocalDateTime bookedAt;
+    @Version
+    private Long version;
+}
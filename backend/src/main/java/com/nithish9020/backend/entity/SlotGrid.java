@@ -0,0 +1,259 @@
+package com.nithish9020.backend.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The slots of one interview, day by day. Each day keeps its slot start times
+ * as sorted minute-of-day offsets, a bitset of the free ones and a parallel
+ * array of bookers, so free counts are popcounts and "any free?" is a field
+ * read. Stored and serialized in the same {date -> {HH:mm -> applicantEmail}}
+ * shape as before (see MongoConfig); the booking updates address single slots
+ * by that path. Instances are not modified after construction.
+ */
+public final class SlotGrid {
+    private static final SlotGrid EMPTY = new SlotGrid(new Day[0]);
+    private static final String[] TIME_LABELS = new String[24 * 60];
+
+    static {
+        for (int minute = 0; minute < TIME_LABELS.length; minute++) {
+            TIME_LABELS[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    private final Day[] days; // sorted by date
+    private final int totalSlots;
+    private final int openSlots;
+
+    private SlotGrid(Day[] days) {
+        this.days = days;
+        int total = 0;
+        int open = 0;
+        for (Day day : days) {
+            total += day.minutes.length;
+            open += day.freeCount();
+        }
+        this.totalSlots = total;
+        this.openSlots = open;
+    }
+
+    // Bookings as given; a null applicant is a free slot
+    @JsonCreator
+    public static SlotGrid of(Map<String, ? extends Map<String, ?>> timeSlots) {
+        return build(timeSlots, true);
+    }
+
+    // Every slot free, whatever the values; for a newly created interview
+    public static SlotGrid allFree(Map<String, ? extends Map<String, ?>> timeSlots) {
+        return build(timeSlots, false);
+    }
+
+    private static SlotGrid build(Map<String, ? extends Map<String, ?>> timeSlots, boolean keepBookings) {
+        if (timeSlots == null || timeSlots.isEmpty())
+            return EMPTY;
+        Day[] days = new Day[timeSlots.size()];
+        int next = 0;
+        boolean sorted = true;
+        for (Map.Entry<String, ? extends Map<String, ?>> day : timeSlots.entrySet()) {
+            days[next] = Day.of(day.getKey(), day.getValue(), keepBookings);
+            sorted &= next == 0 || days[next - 1].date.compareTo(days[next].date) < 0;
+            next++;
+        }
+        // Stored grids come back in date order; only request maps need sorting
+        if (!sorted)
+            Arrays.sort(days, Comparator.comparing(Day::date));
+        return new SlotGrid(days);
+    }
+
+    public int totalSlots() {
+        return totalSlots;
+    }
+
+    public int openSlots() {
+        return openSlots;
+    }
+
+    public boolean hasOpenSlots() {
+        return openSlots > 0;
+    }
+
+    public boolean contains(String date, String time) {
+        Day day = day(date);
+        return day != null && day.indexOf(time) >= 0;
+    }
+
+    // Applicant holding the slot, or null when it is free or does not exist
+    public String bookedBy(String date, String time) {
+        Day day = day(date);
+        int index = day == null ? -1 : day.indexOf(time);
+        return index < 0 ? null : day.bookedBy[index];
+    }
+
+    // Free times per date in time order, days without a free slot left out
+    public Map<String, List<String>> availableSlots() {
+        Map<String, List<String>> available = new LinkedHashMap<>();
+        for (Day day : days) {
+            int free = day.freeCount();
+            if (free == 0)
+                continue;
+            List<String> times = new ArrayList<>(free);
+            for (int index = nextFree(day.free, 0); index >= 0; index = nextFree(day.free, index + 1)) {
+                times.add(TIME_LABELS[day.minutes[index]]);
+            }
+            available.put(day.date, times);
+        }
+        return available;
+    }
+
+    public void forEachSlot(SlotVisitor visitor) {
+        for (Day day : days) {
+            for (int index = 0; index < day.minutes.length; index++) {
+                visitor.visit(day.date, TIME_LABELS[day.minutes[index]], day.bookedBy[index]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface SlotVisitor {
+        void visit(String date, String time, String bookedBy);
+    }
+
+    // The stored and wire shape; free slots are explicit nulls
+    @JsonValue
+    public Map<String, Map<String, String>> toMap() {
+        Map<String, Map<String, String>> timeSlots = new LinkedHashMap<>();
+        for (Day day : days) {
+            Map<String, String> slots = new LinkedHashMap<>();
+            for (int index = 0; index < day.minutes.length; index++) {
+                slots.put(TIME_LABELS[day.minutes[index]], day.bookedBy[index]);
+            }
+            timeSlots.put(day.date, slots);
+        }
+        return timeSlots;
+    }
+
+    private Day day(String date) {
+        int low = 0;
+        int high = days.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = days[mid].date.compareTo(date);
+            if (order == 0)
+                return days[mid];
+            if (order < 0)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+        return null;
+    }
+
+    private static int nextFree(long[] free, int from) {
+        int word = from >>> 6;
+        if (word >= free.length)
+            return -1;
+        long bits = free[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == free.length)
+                return -1;
+            bits = free[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SlotGrid grid && Arrays.equals(days, grid.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(days);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private record Day(String date, short[] minutes, long[] free, String[] bookedBy) {
+
+        static Day of(String date, Map<String, ?> slots, boolean keepBookings) {
+            short[] minutes = new short[slots.size()];
+            String[] bookedBy = new String[slots.size()];
+            long[] free = new long[(minutes.length + 63) >>> 6];
+            int count = 0;
+            for (Map.Entry<String, ?> slot : slots.entrySet()) {
+                short minute = (short) minuteOfDay(slot.getKey());
+                Object applicant = keepBookings ? slot.getValue() : null;
+                // Insertion sort keeps both arrays in time order; a day holds a few dozen slots
+                int index = count++;
+                while (index > 0 && minutes[index - 1] > minute) {
+                    minutes[index] = minutes[index - 1];
+                    bookedBy[index] = bookedBy[index - 1];
+                    index--;
+                }
+                minutes[index] = minute;
+                bookedBy[index] = applicant == null ? null : applicant.toString();
+            }
+            for (int index = 0; index < count; index++) {
+                if (bookedBy[index] == null)
+                    free[index >>> 6] |= 1L << index;
+            }
+            return new Day(date, minutes, free, bookedBy);
+        }
+
+        int freeCount() {
+            int count = 0;
+            for (long word : free) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        int indexOf(String time) {
+            if (!isTime(time))
+                return -1;
+            int index = Arrays.binarySearch(minutes, (short) minuteOfDay(time));
+            return index < 0 ? -1 : index;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Day day && date.equals(day.date) && Arrays.equals(minutes, day.minutes)
+                    && Arrays.equals(bookedBy, day.bookedBy);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * date.hashCode() + Arrays.hashCode(bookedBy);
+        }
+    }
+
+    // Only the canonical HH:mm form, so a time always maps back to the key it was stored under
+    private static int minuteOfDay(String time) {
+        if (!isTime(time))
+            throw new IllegalArgumentException("Invalid time slot " + time);
+        return ((time.charAt(0) - '0') * 10 + time.charAt(1) - '0') * 60
+                + (time.charAt(3) - '0') * 10 + time.charAt(4) - '0';
+    }
+
+    private static boolean isTime(String time) {
+        return time != null && time.length() == 5 && time.charAt(2) == ':'
+                && isDigit(time.charAt(0)) && isDigit(time.charAt(1)) && isDigit(time.charAt(3))
+                && isDigit(time.charAt(4))
+                && (time.charAt(0) - '0') * 10 + time.charAt(1) - '0' < 24
+                && (time.charAt(3) - '0') * 10 + time.charAt(4) - '0' < 60;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
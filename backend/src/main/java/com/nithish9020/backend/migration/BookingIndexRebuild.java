@@ -0,0 +1,85 @@
+package com.nithish9020.backend.migration;
+
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.ApplicantInterview.Booking;
+import com.nithish9020.backend.entity.Interview;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Regenerates the applicants' bookings index (email -> interviewId -> slot)
+ * from the booked slots of every interview. Existing index entries are
+ * cleared first, then rewritten with bulk upserts of batch-size applicants.
+ * Enable with app.migrations.booking-index.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migrations.booking-index.enabled", havingValue = "true")
+@Slf4j
+public class BookingIndexRebuild implements ApplicationRunner {
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public BookingIndexRebuild(MongoTemplate mongoTemplate,
+            @Value("${app.migrations.booking-index.batch-size:1000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mongoTemplate.updateMulti(new Query(Criteria.where("bookings").exists(true)),
+                new Update().unset("bookings"), ApplicantInterview.class);
+
+        Query booked = new Query();
+        booked.fields().include("timeSlots");
+        LocalDateTime now = LocalDateTime.now();
+
+        int bookings = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, ApplicantInterview.class);
+        try (Stream<Interview> interviews = mongoTemplate.stream(booked, Interview.class)) {
+            for (Interview interview : (Iterable<Interview>) interviews::iterator) {
+                if (interview.getTimeSlots() == null)
+                    continue;
+                List<BookedSlot> bookedSlots = new ArrayList<>();
+                interview.getTimeSlots().forEachSlot((date, time, bookedBy) -> {
+                    if (bookedBy != null)
+                        bookedSlots.add(new BookedSlot(bookedBy, date, time));
+                });
+                for (BookedSlot slot : bookedSlots) {
+                    bulk.upsert(new Query(Criteria.where("_id").is(slot.email())), new Update()
+                            .addToSet("interviewIds", interview.getId())
+                            .set("bookings." + interview.getId(), new Booking(slot.date(), slot.time(), now)));
+                    bookings++;
+                    if (++pending == batchSize) {
+                        bulk.execute();
+                        bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, ApplicantInterview.class);
+                        pending = 0;
+                    }
+                }
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        log.info("Booking index rebuilt with {} bookings", bookings);
+    }
+
+    private record BookedSlot(String email, String date, String time) {
+    }
+}
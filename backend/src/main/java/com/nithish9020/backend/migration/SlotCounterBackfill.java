@@ -0,0 +1,28 @@
+package com.nithish9020.backend.migration;
+
+import com.nithish9020.backend.repository.InterviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates the openSlots/totalSlots counters on interviews created before
+ * they existed, so the open-interviews query does not silently skip them.
+ * Interviews that already carry the counters are not touched.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotCounterBackfill implements ApplicationRunner {
+    private final InterviewRepository interviewRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = interviewRepository.backfillSlotCounters();
+        if (updated > 0) {
+            log.info("Backfilled slot counters on {} interviews", updated);
+        }
+    }
+}
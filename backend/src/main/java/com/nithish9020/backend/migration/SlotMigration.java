@@ -0,0 +1,67 @@
+package com.nithish9020.backend.migration;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.repository.SlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Copies the nested timeSlots map of existing interviews into the slots
+ * collection, a batch of interviews at a time, and flags each interview as
+ * normalized. Slot documents are upserted, so an interrupted run can simply
+ * be started again. A booking made on an interview while its batch is being
+ * copied can leave its slot document free; booking that slot then fails
+ * against the interview document, which still has it taken.
+ * Enable with app.migrations.slots.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migrations.slots.enabled", havingValue = "true")
+@Slf4j
+public class SlotMigration implements ApplicationRunner {
+    private final MongoTemplate mongoTemplate;
+    private final SlotRepository slotRepository;
+    private final int batchSize;
+
+    public SlotMigration(MongoTemplate mongoTemplate, SlotRepository slotRepository,
+            @Value("${app.migrations.slots.batch-size:200}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.slotRepository = slotRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int interviews = 0;
+        int slots = 0;
+        List<Interview> batch;
+        do {
+            Query pending = new Query(Criteria.where("slotsNormalized").ne(true))
+                    .with(Sort.by("_id"))
+                    .limit(batchSize);
+            pending.fields().include("timeSlots");
+            batch = mongoTemplate.find(pending, Interview.class);
+            if (batch.isEmpty())
+                break;
+
+            slots += slotRepository.upsertSlots(batch);
+            List<String> ids = batch.stream().map(Interview::getId).toList();
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids)),
+                    new Update().set("slotsNormalized", true), Interview.class);
+            interviews += batch.size();
+            log.info("Slot migration: {} interviews, {} slots so far", interviews, slots);
+        } while (batch.size() == batchSize);
+
+        log.info("Slot migration finished: {} interviews, {} slots", interviews, slots);
+    }
+}
@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicantInterviewRepository extends MongoRepository<ApplicantInterview, String> {
+public interface ApplicantInterviewRepository extends MongoRepository<ApplicantInterview, String>, ApplicantInterviewRepositoryCustom {
     Optional<ApplicantInterview> findByEmail(String email);
 
     @Query("{ 'interviewIds': ?0 }")
@@ -0,0 +1,23 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.dto.CandidateRegistrationResult;
+import com.nithish9020.backend.dto.CandidateDto;
+
+import java.util.List;
+
+public interface ApplicantInterviewRepositoryCustom {
+
+    // Upserts the applicant and records the booked slot under bookings.{interviewId}, in a
+    // single round-trip. False, changing nothing, when the applicant already has a booking in
+    // the interview. The interview id must be an ObjectId.
+    boolean addBooking(String email, String interviewId, String date, String time);
+
+    // $addToSet's the interview id, which lets the applicant view the interview; only once a slot is booked
+    void addInterviewId(String email, String interviewId);
+
+    // Drops bookings.{interviewId}; the applicant stays invited to the interview
+    void removeBooking(String email, String interviewId);
+
+    // Same as addInterviewId for many candidates, sent as one unordered bulk write per chunk of chunkSize (> 0)
+    CandidateRegistrationResult addInterviewIdToAll(List<CandidateDto> candidates, String interviewId, int chunkSize);
+}
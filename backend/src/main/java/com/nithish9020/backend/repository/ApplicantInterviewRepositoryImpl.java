@@ -0,0 +1,115 @@
+package com.nithish9020.backend.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CandidateRegistrationResult;
+import com.nithish9020.backend.dto.CandidateRegistrationResult.ChunkFailure;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.ApplicantInterview.Booking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantInterviewRepositoryImpl implements ApplicantInterviewRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean addBooking(String email, String interviewId, String date, String time) {
+        String booking = bookingPath(interviewId);
+        Query query = new Query(Criteria.where("_id").is(email).and(booking).exists(false));
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .setOnInsert("interviewIds", List.of())
+                .set(booking, new Booking(date, time, now))
+                .set("updatedAt", now);
+        try {
+            mongoTemplate.upsert(query, update, ApplicantInterview.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // The applicant exists but the filter missed, so a booking is already there
+            return false;
+        }
+    }
+
+    @Override
+    public void addInterviewId(String email, String interviewId) {
+        Update update = new Update()
+                .addToSet("interviewIds", interviewId)
+                .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(email)), update, ApplicantInterview.class);
+    }
+
+    @Override
+    public void removeBooking(String email, String interviewId) {
+        Query query = new Query(Criteria.where("_id").is(email));
+        Update update = new Update()
+                .unset(bookingPath(interviewId))
+                .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.updateFirst(query, update, ApplicantInterview.class);
+    }
+
+    // The id becomes part of a field path, so anything but an interview id is refused
+    private static String bookingPath(String interviewId) {
+        if (!ObjectId.isValid(interviewId)) {
+            throw new IllegalArgumentException("Invalid interview id");
+        }
+        return "bookings." + interviewId;
+    }
+
+    @Override
+    public CandidateRegistrationResult addInterviewIdToAll(List<CandidateDto> candidates, String interviewId,
+            int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got " + chunkSize);
+        }
+        CandidateRegistrationResult result = new CandidateRegistrationResult();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int start = 0, chunk = 0; start < candidates.size(); start += chunkSize, chunk++) {
+            List<CandidateDto> batch = candidates.subList(start, Math.min(start + chunkSize, candidates.size()));
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, ApplicantInterview.class);
+            for (CandidateDto candidate : batch) {
+                bulk.upsert(new Query(Criteria.where("_id").is(candidate.getEmail())), new Update()
+                        .addToSet("interviewIds", interviewId)
+                        .setOnInsert("name", candidate.getName())
+                        .set("updatedAt", now));
+            }
+
+            try {
+                count(result, bulk.execute());
+            } catch (BulkOperationException e) {
+                // Unordered: the rest of the chunk was still applied, only the listed writes failed
+                count(result, e.getResult());
+                result.setFailed(result.getFailed() + e.getErrors().size());
+                result.getFailedChunks().add(new ChunkFailure(chunk, start, e.getErrors().size(),
+                        e.getErrors().get(0).getMessage()));
+                log.error("Candidate chunk {} of interview {} had {} failed writes", chunk, interviewId,
+                        e.getErrors().size());
+            } catch (DataAccessException e) {
+                result.setFailed(result.getFailed() + batch.size());
+                result.getFailedChunks().add(new ChunkFailure(chunk, start, batch.size(), e.getMessage()));
+                log.error("Candidate chunk {} of interview {} failed: {}", chunk, interviewId, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private void count(CandidateRegistrationResult result, BulkWriteResult writeResult) {
+        result.setInserted(result.getInserted() + writeResult.getUpserts().size());
+        result.setUpdated(result.getUpdated() + writeResult.getMatchedCount());
+    }
+}
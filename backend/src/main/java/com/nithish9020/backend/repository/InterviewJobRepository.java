@@ -0,0 +1,7 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.InterviewJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface InterviewJobRepository extends MongoRepository<InterviewJob, String>, InterviewJobRepositoryCustom {
+}
@@ -0,0 +1,23 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.InterviewJob;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface InterviewJobRepositoryCustom {
+
+    // Atomically takes a queued job, or a running one whose heartbeat is older than staleBefore
+    Optional<InterviewJob> claimNext(String owner, Instant staleBefore, int maxAttempts);
+
+    // Applies the update and refreshes the heartbeat only while the caller still owns the job
+    boolean updateIfOwner(String jobId, String owner, Update update);
+
+    // Refreshes the heartbeat of those jobs the caller still owns, returning how many were renewed
+    long renewLeases(Collection<String> jobIds, String owner);
+
+    // Fails stale jobs that have already used up their attempts
+    long failAbandoned(Instant staleBefore, int maxAttempts);
+}
@@ -0,0 +1,66 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.InterviewJob;
+import com.nithish9020.backend.entity.InterviewJob.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class InterviewJobRepositoryImpl implements InterviewJobRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<InterviewJob> claimNext(String owner, Instant staleBefore, int maxAttempts) {
+        Query claimable = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(Status.QUEUED),
+                Criteria.where("status").is(Status.RUNNING).and("heartbeatAt").lt(staleBefore))
+                .and("attempts").lt(maxAttempts))
+                .with(Sort.by("createdAt"));
+        Instant now = Instant.now();
+        Update claim = new Update()
+                .set("status", Status.RUNNING)
+                .set("owner", owner)
+                .set("heartbeatAt", now)
+                .min("startedAt", now)
+                .inc("attempts", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(claimable, claim,
+                FindAndModifyOptions.options().returnNew(true), InterviewJob.class));
+    }
+
+    @Override
+    public boolean updateIfOwner(String jobId, String owner, Update update) {
+        Query owned = new Query(Criteria.where("_id").is(jobId).and("owner").is(owner)
+                .and("status").is(Status.RUNNING));
+        update.set("heartbeatAt", Instant.now());
+        return mongoTemplate.updateFirst(owned, update, InterviewJob.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public long renewLeases(Collection<String> jobIds, String owner) {
+        Query owned = new Query(Criteria.where("_id").in(jobIds).and("owner").is(owner)
+                .and("status").is(Status.RUNNING));
+        return mongoTemplate.updateMulti(owned, new Update().set("heartbeatAt", Instant.now()), InterviewJob.class)
+                .getMatchedCount();
+    }
+
+    @Override
+    public long failAbandoned(Instant staleBefore, int maxAttempts) {
+        Query abandoned = new Query(Criteria.where("status").is(Status.RUNNING)
+                .and("heartbeatAt").lt(staleBefore)
+                .and("attempts").gte(maxAttempts));
+        Update fail = new Update()
+                .set("status", Status.FAILED)
+                .set("error", "Gave up after " + maxAttempts + " attempts")
+                .set("finishedAt", Instant.now());
+        return mongoTemplate.updateMulti(abandoned, fail, InterviewJob.class).getModifiedCount();
+    }
+}
@@ -2,9 +2,27 @@ package com.nithish9020.backend.repository;
 
 import com.nithish9020.backend.entity.Interview;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
-public interface InterviewRepository extends MongoRepository<Interview, String> {
+import org.springframework.data.mongodb.repository.Query;
+public interface InterviewRepository extends MongoRepository<Interview, String>, InterviewRepositoryCustom {
     List<Interview> findByCreatedBy(String createdBy);
+
+    // Served by the open_interviews index; only interviews that can still be booked
+    @Query("{ 'openSlots': { $gt: 0 }, 'toDate': { $gte: ?0 } }")
+    List<Interview> findOpenInterviews(LocalDate today);
+
+    // Same as findOpenInterviews without the slot grid, for list views that only need counts
+    @Query(value = "{ 'openSlots': { $gt: 0 }, 'toDate': { $gte: ?0 } }", fields = "{ 'timeSlots': 0 }")
+    List<Interview> findOpenInterviewSummaries(LocalDate today);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'timeSlots': 0 }")
+    Optional<Interview> findSummaryById(String id);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'timeSlots': 0 }")
+    List<Interview> findSummariesByIdIn(Collection<String> ids);
 }
\ No newline at end of file
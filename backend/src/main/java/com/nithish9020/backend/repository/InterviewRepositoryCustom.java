@@ -0,0 +1,30 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.Interview;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InterviewRepositoryCustom {
+
+    enum ClaimResult {
+        CLAIMED,
+        ALREADY_TAKEN,
+        NO_SUCH_SLOT
+    }
+
+    // Atomically sets timeSlots.{date}.{time} to the email only if the slot is still free
+    // and decrements openSlots in the same update
+    ClaimResult claimSlot(String interviewId, String date, String timeSlot, String email);
+
+    // Frees timeSlots.{date}.{time} only if it is still booked by the email, and increments openSlots
+    boolean releaseSlot(String interviewId, String date, String timeSlot, String email);
+
+    // One page of the creator's interviews, newest first, without the slot grid. Pass the
+    // createdAt and id of the last interview of the previous page, or nulls for the first page.
+    List<Interview> findSummariesByCreator(String createdBy, LocalDateTime createdBefore, String idBefore,
+            int limit);
+
+    // Fills totalSlots/openSlots on interviews saved before the counters existed
+    int backfillSlotCounters();
+}
@@ -0,0 +1,96 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class InterviewRepositoryImpl implements InterviewRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ClaimResult claimSlot(String interviewId, String date, String timeSlot, String email) {
+        String slotPath = slotPath(date, timeSlot);
+
+        // A free slot is stored as an explicit null, so match on the BSON null type
+        // rather than is(null), which would also match a slot that does not exist
+        Query freeSlot = new Query(Criteria.where("_id").is(interviewId)
+                .and(slotPath).type(JsonSchemaObject.Type.nullType()));
+        UpdateResult result = mongoTemplate.updateFirst(freeSlot, new Update().set(slotPath, email).inc("openSlots", -1), Interview.class);
+        if (result.getModifiedCount() > 0) {
+            return ClaimResult.CLAIMED;
+        }
+
+        // Only the losing path pays for a second query, to tell a taken slot from a bad one
+        Query existingSlot = new Query(Criteria.where("_id").is(interviewId).and(slotPath).exists(true));
+        return mongoTemplate.exists(existingSlot, Interview.class)
+                ? ClaimResult.ALREADY_TAKEN
+                : ClaimResult.NO_SUCH_SLOT;
+    }
+
+    @Override
+    public boolean releaseSlot(String interviewId, String date, String timeSlot, String email) {
+        String slotPath = slotPath(date, timeSlot);
+        Query bookedByEmail = new Query(Criteria.where("_id").is(interviewId).and(slotPath).is(email));
+        Update release = new Update().set(slotPath, null).inc("openSlots", 1);
+        return mongoTemplate.updateFirst(bookedByEmail, release, Interview.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public List<Interview> findSummariesByCreator(String createdBy, LocalDateTime createdBefore, String idBefore,
+            int limit) {
+        Criteria criteria = Criteria.where("createdBy").is(createdBy);
+        if (createdBefore != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(createdBefore),
+                    Criteria.where("createdAt").is(createdBefore).and("_id").lt(new ObjectId(idBefore)));
+        }
+        Query page = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+        page.fields().include("interviewName", "fromDate", "toDate", "totalSlots", "openSlots", "createdBy",
+                "createdAt");
+        return mongoTemplate.find(page, Interview.class);
+    }
+
+    @Override
+    public int backfillSlotCounters() {
+        Query missingCounters = new Query(Criteria.where("openSlots").exists(false));
+        missingCounters.fields().include("timeSlots");
+
+        int updated = 0;
+        try (Stream<Interview> interviews = mongoTemplate.stream(missingCounters, Interview.class)) {
+            for (Interview interview : (Iterable<Interview>) interviews::iterator) {
+                // Guarded on the counter still being absent so a concurrent booking is not overwritten
+                SlotGrid slots = interview.getTimeSlots() == null ? SlotGrid.of(null) : interview.getTimeSlots();
+                Query unchanged = new Query(Criteria.where("_id").is(interview.getId())
+                        .and("openSlots").exists(false));
+                Update counters = new Update()
+                        .set("totalSlots", slots.totalSlots())
+                        .set("openSlots", slots.openSlots());
+                updated += (int) mongoTemplate.updateFirst(unchanged, counters, Interview.class).getModifiedCount();
+            }
+        }
+        return updated;
+    }
+
+    private String slotPath(String date, String timeSlot) {
+        if (date == null || timeSlot == null || date.contains(".") || timeSlot.contains(".")
+                || date.startsWith("$") || timeSlot.startsWith("$")) {
+            throw new IllegalArgumentException("Invalid time slot");
+        }
+        return "timeSlots." + date + "." + timeSlot;
+    }
+}
@@ -0,0 +1,15 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.Slot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SlotRepository extends MongoRepository<Slot, String>, SlotRepositoryCustom {
+    List<Slot> findByInterviewIdAndDateAndBookedByIsNullOrderByTimeAsc(String interviewId, String date);
+
+    Optional<Slot> findByInterviewIdAndDateAndTime(String interviewId, String date, String time);
+
+    void deleteByInterviewId(String interviewId);
+}
@@ -0,0 +1,19 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+
+import java.util.List;
+
+public interface SlotRepositoryCustom {
+
+    // Sets bookedBy on the (interviewId, date, time) slot only while it is still free
+    ClaimResult claim(String interviewId, String date, String time, String email);
+
+    // Clears bookedBy only if the slot is still booked by the email
+    boolean release(String interviewId, String date, String time, String email);
+
+    // Upserts one slot document per entry of each interview's timeSlots, in a single bulk write.
+    // Existing slot documents are left as they are, so this can be re-run safely.
+    int upsertSlots(List<Interview> interviews);
+}
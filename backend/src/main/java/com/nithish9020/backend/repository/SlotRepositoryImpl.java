@@ -0,0 +1,71 @@
+package com.nithish9020.backend.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SlotRepositoryImpl implements SlotRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ClaimResult claim(String interviewId, String date, String time, String email) {
+        Query free = new Query(slot(interviewId, date, time).and("bookedBy").type(JsonSchemaObject.Type.nullType()));
+        Update book = new Update()
+                .set("bookedBy", email)
+                .set("bookedAt", LocalDateTime.now())
+                .inc("version", 1);
+        UpdateResult result = mongoTemplate.updateFirst(free, book, Slot.class);
+        if (result.getModifiedCount() > 0) {
+            return ClaimResult.CLAIMED;
+        }
+        return mongoTemplate.exists(new Query(slot(interviewId, date, time)), Slot.class)
+                ? ClaimResult.ALREADY_TAKEN
+                : ClaimResult.NO_SUCH_SLOT;
+    }
+
+    @Override
+    public boolean release(String interviewId, String date, String time, String email) {
+        Query bookedByEmail = new Query(slot(interviewId, date, time).and("bookedBy").is(email));
+        Update release = new Update()
+                .set("bookedBy", null)
+                .unset("bookedAt")
+                .inc("version", 1);
+        return mongoTemplate.updateFirst(bookedByEmail, release, Slot.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public int upsertSlots(List<Interview> interviews) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, Slot.class);
+        int slots = 0;
+        for (Interview interview : interviews) {
+            if (interview.getTimeSlots() == null)
+                continue;
+            interview.getTimeSlots().forEachSlot((date, time, bookedBy) ->
+                    bulk.upsert(new Query(slot(interview.getId(), date, time)), new Update()
+                            .setOnInsert("bookedBy", bookedBy)
+                            .setOnInsert("version", 0L)));
+            slots += interview.getTimeSlots().totalSlots();
+        }
+        if (slots > 0) {
+            bulk.execute();
+        }
+        return slots;
+    }
+
+    private Criteria slot(String interviewId, String date, String time) {
+        return Criteria.where("interviewId").is(interviewId).and("date").is(date).and("time").is(time);
+    }
+}
@@ -2,9 +2,15 @@
 package com.nithish9020.backend.repository;
 
 import com.nithish9020.backend.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByOauthIdAndOauthProvider(String oauthId, String oauthProvider);
+
+    // Every user matching any OAuth identity key, in one query; the caller picks by priority
+    @Query("select u from User u where (u.oauthId = :oauthId and u.oauthProvider = :provider) or u.email in :emails")
+    List<User> findOAuthCandidates(@Param("oauthId") String oauthId, @Param("provider") String provider,
+            @Param("emails") Collection<String> emails);
+
+    // Emails only, page by page, for rebuilding the registered-email filter
+    @Query("select u.email from User u order by u.id")
+    Slice<String> findAllEmails(Pageable pageable);
 }
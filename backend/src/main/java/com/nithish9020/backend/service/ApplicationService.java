@@ -1,14 +1,18 @@
 package com.nithish9020.backend.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.nithish9020.backend.dto.ApplicationDto;
 import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.ApplicantInterview.Booking;
 import com.nithish9020.backend.entity.Interview;
 import com.nithish9020.backend.repository.ApplicantInterviewRepository;
 import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,54 +22,33 @@ import java.util.stream.Collectors;
 public class ApplicationService {
     private final ApplicantInterviewRepository applicantInterviewRepository;
     private final InterviewRepository interviewRepository;
+    private final InterviewService interviewService;
+    private final CandidateViewCache viewCache;
+    private final ServiceMetrics metrics;
 
     public List<ApplicationDto> getMyApplications(String email) {
         log.info("Fetching available interviews for email: {}", email);
+        return metrics.time("getMyApplications", () -> viewCache.get(CandidateViewCache.OPEN_APPLICATIONS,
+                new TypeReference<List<ApplicationDto>>() {
+                }, this::loadOpenApplications));
+    }
 
-        // Get all interviews with available slots
-        List<Interview> availableInterviews = interviewRepository.findAll();
+    private List<ApplicationDto> loadOpenApplications() {
+        // Only interviews with open slots left, without their slot grids
+        List<Interview> availableInterviews = interviewRepository.findOpenInterviewSummaries(LocalDate.now());
         List<ApplicationDto> applications = new ArrayList<>();
 
         for (Interview interview : availableInterviews) {
-            try {
-                // Check if any slots are available (not null)
-                Map<String, Map<String, String>> timeSlots = interview.getTimeSlots();
-                boolean hasAvailableSlots = false;
-
-                for (Map<String, String> daySlots : timeSlots.values()) {
-                    if (daySlots.containsValue(null)) {
-                        hasAvailableSlots = true;
-                        break;
-                    }
-                }
-
-                if (hasAvailableSlots) {
-                    ApplicationDto dto = new ApplicationDto();
-                    dto.setId(interview.getId());
-                    dto.setInterviewName(interview.getInterviewName());
-                    dto.setInterviewer(interview.getCreatedBy());
-                    dto.setStatus("available");
-
-                    // Get the date range
-                    List<String> dates = new ArrayList<>(timeSlots.keySet());
-                    Collections.sort(dates);
-                    if (!dates.isEmpty()) {
-                        dto.setInterviewDate(dates.get(0) + " to " + dates.get(dates.size() - 1));
-                    }
-
-                    // Count available slots
-                    int availableSlotCount = timeSlots.values().stream()
-                            .mapToInt(slots -> (int) slots.values().stream().filter(Objects::isNull).count())
-                            .sum();
-                    dto.setTimeSlot(availableSlotCount + " slots available");
-
-                    applications.add(dto);
-                    log.info("Added available interview: {} with {} slots",
-                            interview.getInterviewName(), availableSlotCount);
-                }
-            } catch (Exception e) {
-                log.error("Error processing interview {}: {}", interview.getId(), e.getMessage());
+            ApplicationDto dto = new ApplicationDto();
+            dto.setId(interview.getId());
+            dto.setInterviewName(interview.getInterviewName());
+            dto.setInterviewer(interview.getCreatedBy());
+            dto.setStatus("available");
+            if (interview.getFromDate() != null && interview.getToDate() != null) {
+                dto.setInterviewDate(interview.getFromDate() + " to " + interview.getToDate());
             }
+            dto.setTimeSlot(interview.getOpenSlots() + " slots available");
+            applications.add(dto);
         }
 
         log.info("Found {} available interviews", applications.size());
@@ -80,92 +63,44 @@ public class ApplicationService {
                 "completed", 0);
     }
 
-    // Add method to book a slot
-    public void bookSlot(String interviewId, String date, String timeSlot, String email) {
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new RuntimeException("Interview not found"));
-
-        Map<String, String> daySlots = interview.getTimeSlots().get(date);
-        if (daySlots == null || !daySlots.containsKey(timeSlot)) {
-            throw new RuntimeException("Invalid time slot");
-        }
-
-        if (daySlots.get(timeSlot) != null) {
-            throw new RuntimeException("Slot already booked");
-        }
-
-        daySlots.put(timeSlot, email);
-        interviewRepository.save(interview);
-
-        // Add to applicant's interviews
-        applicantInterviewRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        applicant -> {
-                            if (!applicant.getInterviewIds().contains(interviewId)) {
-                                applicant.getInterviewIds().add(interviewId);
-                                applicantInterviewRepository.save(applicant);
-                            }
-                        },
-                        () -> {
-                            ApplicantInterview newApplicant = new ApplicantInterview();
-                            newApplicant.setEmail(email);
-                            newApplicant.setInterviewIds(new ArrayList<>(List.of(interviewId)));
-                            applicantInterviewRepository.save(newApplicant);
-                        });
+    // Booking goes through the same atomic slot claim as InterviewService
+    public ClaimResult bookSlot(String interviewId, String date, String timeSlot, String email) {
+        return interviewService.bookSlot(interviewId, date, timeSlot, email);
     }
 
     public ApplicationDto getApplicationById(String id, String email) {
         log.info("Fetching application details for id: {} and email: {}", id, email);
 
         try {
-            // Find the interview
-            Interview interview = interviewRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Interview not found with id: " + id));
-            log.info("Found interview: {}", interview.getInterviewName());
-
-            // Find the applicant
-            ApplicantInterview applicant = applicantInterviewRepository.findByEmail(email)
+            // Find the applicant; its booking index answers the lookup without touching slots
+            ApplicantInterview applicant = applicantInterviewRepository.findById(email)
                     .orElseThrow(() -> new RuntimeException("No applications found for email: " + email));
-            log.info("Found applicant with {} interviews", applicant.getInterviewIds().size());
 
             // Check authorization
-            if (!applicant.getInterviewIds().contains(id)) {
+            if (applicant.getInterviewIds() == null || !applicant.getInterviewIds().contains(id)) {
                 log.warn("Unauthorized access attempt for interview {} by {}", id, email);
                 throw new RuntimeException("You are not authorized to view this interview details");
             }
 
-            // Find booking details
-            String[] bookingDetails = findBookingDetails(interview, email);
-            if (bookingDetails == null) {
-                log.warn("No booking found for email {} in interview {}", email, id);
+            // Find the interview
+            Interview interview = interviewRepository.findSummaryById(id)
+                    .orElseThrow(() -> new RuntimeException("Interview not found with id: " + id));
+
+            Booking booking = applicant.getBookings() == null ? null : applicant.getBookings().get(id);
+            if (booking == null) {
+                log.info("No booking found for email {} in interview {}", email, id);
 
                 // Instead of throwing error, return available slot details
-                ApplicationDto dto = new ApplicationDto();
-                dto.setId(id);
-                dto.setInterviewName(interview.getInterviewName());
-                dto.setInterviewer(interview.getCreatedBy());
+                ApplicationDto dto = toDto(interview);
                 dto.setStatus("pending");
-
-                // Get the first available date and slot
-                Map.Entry<String, Map<String, String>> firstDate = interview.getTimeSlots().entrySet().stream()
-                        .findFirst().orElse(null);
-                if (firstDate != null) {
-                    dto.setInterviewDate(firstDate.getKey());
+                if (interview.getFromDate() != null) {
+                    dto.setInterviewDate(interview.getFromDate().toString());
                     dto.setTimeSlot("Not booked yet");
                 }
-
                 return dto;
             }
 
-            // Create DTO with booking details
-            ApplicationDto dto = new ApplicationDto();
-            dto.setId(id);
-            dto.setInterviewName(interview.getInterviewName());
-            dto.setInterviewDate(bookingDetails[0]);
-            dto.setTimeSlot(bookingDetails[1]);
-            dto.setStatus(determineStatus(bookingDetails[0]));
-            dto.setInterviewer(interview.getCreatedBy());
-
+            ApplicationDto dto = toDto(interview, booking);
             log.info("Successfully fetched application details for interview: {}", interview.getInterviewName());
             return dto;
 
@@ -175,21 +110,36 @@ public class ApplicationService {
         }
     }
 
-    private String[] findBookingDetails(Interview interview, String email) {
-        // Implement logic to find booking details for the applicant
-        // This is a placeholder implementation
-        for (Map.Entry<String, Map<String, String>> dateEntry : interview.getTimeSlots().entrySet()) {
-            String date = dateEntry.getKey();
-            Map<String, String> slots = dateEntry.getValue();
-            for (Map.Entry<String, String> slotEntry : slots.entrySet()) {
-                String timeSlot = slotEntry.getKey();
-                String bookedEmail = slotEntry.getValue();
-                if (email.equals(bookedEmail)) {
-                    return new String[] { date, timeSlot };
-                }
-            }
+    // Every booked slot of the applicant: one read of the booking index plus one batched interview lookup
+    public List<ApplicationDto> getMyBookings(String email) {
+        Map<String, Booking> bookings = applicantInterviewRepository.findById(email)
+                .map(ApplicantInterview::getBookings)
+                .orElse(Map.of());
+        if (bookings.isEmpty()) {
+            return List.of();
         }
-        return null;
+
+        return interviewRepository.findSummariesByIdIn(bookings.keySet()).stream()
+                .map(interview -> toDto(interview, bookings.get(interview.getId())))
+                .sorted(Comparator.comparing(ApplicationDto::getInterviewDate)
+                        .thenComparing(ApplicationDto::getTimeSlot))
+                .collect(Collectors.toList());
+    }
+
+    private ApplicationDto toDto(Interview interview, Booking booking) {
+        ApplicationDto dto = toDto(interview);
+        dto.setInterviewDate(booking.getDate());
+        dto.setTimeSlot(booking.getTime());
+        dto.setStatus(determineStatus(booking.getDate()));
+        return dto;
+    }
+
+    private ApplicationDto toDto(Interview interview) {
+        ApplicationDto dto = new ApplicationDto();
+        dto.setId(interview.getId());
+        dto.setInterviewName(interview.getInterviewName());
+        dto.setInterviewer(interview.getCreatedBy());
+        return dto;
     }
 
     private String determineStatus(String date) {
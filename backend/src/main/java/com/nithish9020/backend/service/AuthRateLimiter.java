@@ -0,0 +1,76 @@
+package com.nithish9020.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fixed-window limits on login and signup attempts per client IP and per
+ * email, counted in Redis so that every node shares them. Both counters are
+ * bumped in a single script call. If Redis is unavailable, requests are let
+ * through; the hashing pool's admission control still caps the damage.
+ */
+@Service
+@Slf4j
+public class AuthRateLimiter {
+
+    // Increments both window counters; returns the seconds to wait if either is over its limit, else 0
+    private static final RedisScript<Long> HIT_SCRIPT = new DefaultRedisScript<>("""
+            local wait = 0
+            for i = 1, 2 do
+              local count = redis.call('INCR', KEYS[i])
+              if count == 1 then
+                redis.call('EXPIRE', KEYS[i], ARGV[3])
+              end
+              if count > tonumber(ARGV[i]) then
+                wait = math.max(wait, redis.call('TTL', KEYS[i]))
+              end
+            end
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final int perIp;
+    private final int perEmail;
+    private final long windowSeconds;
+
+    public AuthRateLimiter(StringRedisTemplate redis,
+            @Value("${app.auth.rate-limit.per-ip:30}") int perIp,
+            @Value("${app.auth.rate-limit.per-email:10}") int perEmail,
+            @Value("${app.auth.rate-limit.window-seconds:60}") long windowSeconds) {
+        this.redis = redis;
+        this.perIp = perIp;
+        this.perEmail = perEmail;
+        this.windowSeconds = windowSeconds;
+    }
+
+    // Counts one attempt of the given action; throws TooManyRequestsException when over a limit
+    public void check(String action, String clientIp, String email) {
+        long window = System.currentTimeMillis() / 1000 / windowSeconds;
+        String prefix = "ratelimit:" + action + ":";
+        List<String> keys = List.of(
+                prefix + "ip:" + clientIp + ":" + window,
+                prefix + "email:" + email.toLowerCase(Locale.ROOT) + ":" + window);
+
+        Long wait;
+        try {
+            wait = redis.execute(HIT_SCRIPT, keys, String.valueOf(perIp), String.valueOf(perEmail),
+                    String.valueOf(windowSeconds));
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable, allowing {} from {}: {}", action, clientIp, e.getMessage());
+            return;
+        }
+        if (wait != null && wait != 0) {
+            log.info("Rate limited {} from {} for {}", action, clientIp, email);
+            throw new TooManyRequestsException("Too many attempts. Please try again later.",
+                    wait > 0 ? wait : windowSeconds);
+        }
+    }
+}
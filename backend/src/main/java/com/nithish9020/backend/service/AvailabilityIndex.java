@@ -0,0 +1,304 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.AvailabilityIndexStats;
+import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.repository.InterviewRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This node's in-memory copy of the open interviews, with their slot grids,
+ * from which the candidates' available-interviews view is built without a
+ * database read. It is loaded from the interviews collection once and then
+ * kept current by a change stream on it. The index and the stream's resume
+ * token are saved together to a local snapshot every
+ * {@code app.availability.index.snapshot-seconds} and on shutdown, so a
+ * restart replays the changes it missed instead of reloading everything.
+ * Change streams need a replica set; against a standalone server the index
+ * stays unready and callers keep reading through the view cache.
+ */
+@Service
+@Slf4j
+public class AvailabilityIndex {
+    // Server error codes: change streams unsupported, and the resume point gone from the oplog
+    private static final Set<Integer> UNSUPPORTED = Set.of(40573, 40324);
+    private static final Set<Integer> HISTORY_LOST = Set.of(286, 280, 260);
+
+    private final MongoTemplate mongoTemplate;
+    private final InterviewRepository interviewRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService follower;
+    private final boolean enabled;
+    private final Path snapshotPath;
+    private final long snapshotMillis;
+    private final long retryMillis;
+
+    private final Map<String, Interview> open = new ConcurrentHashMap<>();
+    // Bumped on every change so the built view is rebuilt on the next read
+    private final AtomicLong version = new AtomicLong();
+    private volatile View view;
+    private volatile boolean ready;
+    private volatile boolean stopped;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder snapshotResumes = new LongAdder();
+    private volatile long lagMillis;
+
+    public AvailabilityIndex(MongoTemplate mongoTemplate,
+            InterviewRepository interviewRepository,
+            ObjectMapper objectMapper,
+            BlockingExecutors blockingExecutors,
+            @Value("${app.availability.index.enabled:true}") boolean enabled,
+            @Value("${app.availability.index.snapshot-path:${java.io.tmpdir}/availability-index.json}")
+            Path snapshotPath,
+            @Value("${app.availability.index.snapshot-seconds:60}") long snapshotSeconds,
+            @Value("${app.availability.index.retry-ms:5000}") long retryMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.interviewRepository = interviewRepository;
+        this.objectMapper = objectMapper;
+        this.follower = blockingExecutors.newExecutor("availability-index", 1);
+        this.enabled = enabled;
+        this.snapshotPath = snapshotPath;
+        this.snapshotMillis = TimeUnit.SECONDS.toMillis(snapshotSeconds);
+        this.retryMillis = retryMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            follower.execute(this::follow);
+        }
+    }
+
+    // When false the index may be incomplete or behind; read from the database instead
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Open interviews that have not ended, earliest first; the same list until the next change or day
+    public List<InterviewDto> availableInterviews() {
+        LocalDate today = LocalDate.now();
+        View current = view;
+        long latest = version.get();
+        if (current != null && current.version() == latest && current.day().equals(today)) {
+            return current.interviews();
+        }
+        List<InterviewDto> interviews = open.values().stream()
+                .filter(interview -> !interview.getToDate().isBefore(today))
+                .sorted(Comparator.comparing(Interview::getFromDate).thenComparing(Interview::getId))
+                .map(InterviewService::toAvailableDto)
+                .toList();
+        view = new View(latest, today, interviews);
+        return interviews;
+    }
+
+    public AvailabilityIndexStats getStats() {
+        return new AvailabilityIndexStats(ready, open.size(), events.sum(), rebuilds.sum(), snapshotResumes.sum(),
+                lagMillis);
+    }
+
+    private void follow() {
+        BsonDocument token = restoreSnapshot();
+        long lastSnapshot = System.currentTimeMillis();
+        while (!stopped) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = watch(token)) {
+                if (token == null) {
+                    // Loaded after the stream opened, so changes made during the load are replayed
+                    rebuild();
+                }
+                while (!stopped) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        apply(change);
+                    } else {
+                        // Caught up with the stream: anything missed while down has been replayed
+                        ready = true;
+                    }
+                    token = cursor.getResumeToken() != null ? cursor.getResumeToken() : token;
+                    if (token != null && System.currentTimeMillis() - lastSnapshot >= snapshotMillis) {
+                        saveSnapshot(token);
+                        lastSnapshot = System.currentTimeMillis();
+                    }
+                }
+            } catch (MongoCommandException e) {
+                ready = false;
+                if (UNSUPPORTED.contains(e.getErrorCode())) {
+                    log.info("Change streams are not available ({}); available interviews are read from the "
+                            + "database", e.getErrorMessage());
+                    return;
+                }
+                if (HISTORY_LOST.contains(e.getErrorCode())) {
+                    log.warn("Availability index is too far behind to resume, rebuilding: {}",
+                            e.getErrorMessage());
+                    token = null;
+                    continue;
+                }
+                pause(e);
+            } catch (CollectionReplacedException e) {
+                ready = false;
+                log.warn("Availability index rebuilding: {}", e.getMessage());
+                token = null;
+            } catch (MongoException e) {
+                ready = false;
+                pause(e);
+            }
+        }
+        if (token != null) {
+            saveSnapshot(token);
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> watch(BsonDocument resumeAfter) {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(
+                        mongoTemplate.getCollectionName(Interview.class))
+                .watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeAfter != null) {
+            stream = stream.resumeAfter(resumeAfter);
+        }
+        return stream.cursor();
+    }
+
+    private void rebuild() {
+        List<Interview> interviews = interviewRepository.findOpenInterviews(LocalDate.now());
+        open.clear();
+        interviews.forEach(interview -> open.put(interview.getId(), interview));
+        version.incrementAndGet();
+        rebuilds.increment();
+        log.info("Availability index loaded {} open interviews", interviews.size());
+    }
+
+    void apply(ChangeStreamDocument<Document> change) {
+        OperationType type = change.getOperationType();
+        switch (type) {
+            case INSERT, UPDATE, REPLACE -> {
+                // The looked-up document is the latest version, or null if it has been deleted since
+                Document document = change.getFullDocument();
+                String id = id(change.getDocumentKey());
+                apply(id, document == null ? null : mongoTemplate.getConverter().read(Interview.class, document));
+            }
+            case DELETE -> apply(id(change.getDocumentKey()), null);
+            case DROP, RENAME, DROP_DATABASE, INVALIDATE ->
+                throw new CollectionReplacedException("interviews collection event " + type.getValue());
+            default -> {
+                return;
+            }
+        }
+        events.increment();
+        if (change.getWallTime() != null) {
+            lagMillis = System.currentTimeMillis() - change.getWallTime().getValue();
+        }
+    }
+
+    // Keeps the interview while it has an open slot; a null interview was deleted
+    void apply(String id, Interview interview) {
+        if (interview != null && interview.getTimeSlots() != null && interview.getTimeSlots().hasOpenSlots()) {
+            open.put(id, interview);
+        } else {
+            open.remove(id);
+        }
+        version.incrementAndGet();
+    }
+
+    private static String id(BsonDocument documentKey) {
+        BsonValue id = documentKey == null ? null : documentKey.get("_id");
+        if (id == null)
+            return null;
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    // Written by the follower thread between changes, so the interviews match the token
+    void saveSnapshot(BsonDocument token) {
+        try {
+            Snapshot snapshot = new Snapshot(token.toJson(), List.copyOf(open.values()));
+            Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save the availability index snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Fills the index from the snapshot and returns its resume token, or null to rebuild
+    BsonDocument restoreSnapshot() {
+        if (!Files.exists(snapshotPath))
+            return null;
+        try {
+            Snapshot snapshot = objectMapper.readValue(snapshotPath.toFile(), Snapshot.class);
+            open.clear();
+            snapshot.interviews().forEach(interview -> open.put(interview.getId(), interview));
+            version.incrementAndGet();
+            snapshotResumes.increment();
+            log.info("Availability index restored {} open interviews from {}", open.size(), snapshotPath);
+            return BsonDocument.parse(snapshot.resumeToken());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable availability index snapshot {}: {}", snapshotPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private void pause(Exception e) {
+        log.warn("Availability index lost its change stream, retrying in {} ms: {}", retryMillis, e.getMessage());
+        try {
+            Thread.sleep(retryMillis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // The follower writes a last snapshot on its way out
+        stopped = true;
+        follower.shutdown();
+        follower.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record View(long version, LocalDate day, List<InterviewDto> interviews) {
+    }
+
+    record Snapshot(String resumeToken, List<Interview> interviews) {
+    }
+
+    // The stream cannot continue past a drop, rename or invalidate; the index is loaded again
+    private static class CollectionReplacedException extends RuntimeException {
+        CollectionReplacedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nithish9020.backend.dto.ViewCacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the candidate-facing views, which are the same for
+ * every candidate. A short-lived local Caffeine cache sits in front of Redis.
+ * Writers call {@link #invalidate()}, which bumps a generation counter, drops
+ * the Redis copies and tells every node to clear its local copies.
+ * A load only stores its result if the generation is unchanged, so a slow
+ * load cannot bring back a view from before the invalidation.
+ */
+@Service
+@Slf4j
+public class CandidateViewCache implements MessageListener {
+    public static final String AVAILABLE_INTERVIEWS = "available-interviews";
+    public static final String OPEN_APPLICATIONS = "open-applications";
+
+    static final String GENERATION_KEY = "views:generation";
+    static final String CHANNEL = "views:invalidate";
+    private static final List<String> VIEWS = List.of(AVAILABLE_INTERVIEWS, OPEN_APPLICATIONS);
+
+    // Stores ARGV[2] with TTL ARGV[3] ms unless the generation moved past ARGV[1]
+    private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[1]) or '0'
+            if generation ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // Bumps the generation and drops every cached view
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[1])
+            for i = 2, #KEYS do
+              redis.call('DEL', KEYS[i])
+            end
+            return generation
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Cache<String, CachedView> local;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder staleWritesSkipped = new LongAdder();
+    private final LongAdder servedAgeMillis = new LongAdder();
+    private final LongAccumulator maxServedAgeMillis = new LongAccumulator(Math::max, 0);
+    // Local loads started before the last invalidation on this node must not fill the local cache
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    public CandidateViewCache(StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${app.views.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.views.local-ttl-seconds:5}") long localTtlSeconds) {
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(VIEWS.size() * 4L)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public <T> T get(String view, TypeReference<T> type, Supplier<T> loader) {
+        long localGenerationAtStart = localGeneration.get();
+        CachedView cached = local.getIfPresent(view);
+        if (cached != null) {
+            localHits.increment();
+            return served(cached, type);
+        }
+
+        String generation = null;
+        try {
+            List<String> values = redis.opsForValue().multiGet(List.of(GENERATION_KEY, redisKey(view)));
+            generation = values.get(0) == null ? "0" : values.get(0);
+            if (values.get(1) != null) {
+                JsonNode stored = objectMapper.readTree(values.get(1));
+                cached = new CachedView(stored.get("computedAt").asLong(), stored.get("value"));
+                redisHits.increment();
+                putLocal(view, cached, localGenerationAtStart);
+                return served(cached, type);
+            }
+        } catch (DataAccessException | IOException e) {
+            log.warn("View cache read for {} failed, loading from the database: {}", view, e.getMessage());
+        }
+
+        misses.increment();
+        T value = loader.get();
+        cached = new CachedView(System.currentTimeMillis(), objectMapper.valueToTree(value));
+        if (generation != null) {
+            store(view, generation, cached);
+        }
+        putLocal(view, cached, localGenerationAtStart);
+        return value;
+    }
+
+    // Called after every write that changes open interviews or slot availability
+    public void invalidate() {
+        invalidations.increment();
+        clearLocal();
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(GENERATION_KEY);
+            VIEWS.forEach(view -> keys.add(redisKey(view)));
+            Long generation = redis.execute(INVALIDATE_SCRIPT, keys);
+            redis.convertAndSend(CHANNEL, String.valueOf(generation));
+        } catch (DataAccessException e) {
+            // Redis copies then expire by TTL; other nodes' local copies by their shorter TTL
+            log.warn("View cache invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    // Another node (or this one) invalidated the views
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clearLocal();
+    }
+
+    public ViewCacheStats getStats() {
+        long local = localHits.sum();
+        long remote = redisHits.sum();
+        long missed = misses.sum();
+        long hits = local + remote;
+        long requests = hits + missed;
+        return new ViewCacheStats(local, remote, missed,
+                requests == 0 ? 0 : (double) hits / requests,
+                this.local.stats().evictionCount(),
+                invalidations.sum(),
+                staleWritesSkipped.sum(),
+                hits == 0 ? 0 : (double) servedAgeMillis.sum() / hits,
+                maxServedAgeMillis.get());
+    }
+
+    private void store(String view, String generation, CachedView cached) {
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put("computedAt", cached.computedAt());
+        stored.put("value", cached.value());
+        try {
+            Long written = redis.execute(PUT_IF_CURRENT_SCRIPT, List.of(GENERATION_KEY, redisKey(view)),
+                    generation, objectMapper.writeValueAsString(stored), String.valueOf(ttl.toMillis()));
+            if (written == null || written == 0) {
+                staleWritesSkipped.increment();
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("View cache write for {} failed: {}", view, e.getMessage());
+        }
+    }
+
+    private void putLocal(String view, CachedView cached, long localGenerationAtStart) {
+        if (localGeneration.get() == localGenerationAtStart) {
+            local.put(view, cached);
+        }
+    }
+
+    private void clearLocal() {
+        localGeneration.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private <T> T served(CachedView cached, TypeReference<T> type) {
+        long age = System.currentTimeMillis() - cached.computedAt();
+        servedAgeMillis.add(age);
+        maxServedAgeMillis.accumulate(age);
+        return objectMapper.convertValue(cached.value(), type);
+    }
+
+    private static String redisKey(String view) {
+        return "views:" + view;
+    }
+
+    // The view as JSON, so every hit hands out a fresh copy
+    private record CachedView(long computedAt, JsonNode value) {
+    }
+}
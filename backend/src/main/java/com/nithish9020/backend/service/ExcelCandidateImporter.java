@@ -0,0 +1,151 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Reads candidate rows (email in column A, name in column B, header in row 1)
+ * from the first sheet of an .xlsx file using POI's SAX event model, so only
+ * the current row is held in memory instead of the whole workbook DOM.
+ * Accepted candidates are handed to a sink as they are parsed.
+ */
+@Component
+public class ExcelCandidateImporter {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    public ExcelImportSummary importCandidates(MultipartFile file, Consumer<CandidateDto> sink) throws IOException {
+        Path spooled = spool(file);
+        try {
+            return importCandidates(spooled, sink);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    // OPCPackage reads zip entries lazily from a file, but buffers everything when given a stream
+    public Path spool(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return spool(in);
+        }
+    }
+
+    public Path spool(InputStream in) throws IOException {
+        Path spooled = Files.createTempFile("candidates-", ".xlsx");
+        Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+        return spooled;
+    }
+
+    public ExcelImportSummary importCandidates(Path workbook, Consumer<CandidateDto> sink) throws IOException {
+        long started = System.nanoTime();
+        ExcelImportSummary summary = new ExcelImportSummary();
+
+        try (OPCPackage pkg = OPCPackage.open(workbook.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Excel file has no sheets");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), strings,
+                        new CandidateRowHandler(summary, sink), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read Excel file: " + e.getMessage(), e);
+        }
+
+        summary.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return summary;
+    }
+
+    private static class CandidateRowHandler implements SheetContentsHandler {
+        private final ExcelImportSummary summary;
+        private final Consumer<CandidateDto> sink;
+        // Lower-cased emails seen so far; the only state that grows with the sheet
+        private final Set<String> seenEmails = new HashSet<>();
+
+        private String email;
+        private String name;
+
+        CandidateRowHandler(ExcelImportSummary summary, Consumer<CandidateDto> sink) {
+            this.summary = summary;
+            this.sink = sink;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            email = null;
+            name = null;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (column == 0) {
+                email = formattedValue;
+            } else if (column == 1) {
+                name = formattedValue;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // Skip header row
+            if (rowNum == 0)
+                return;
+
+            int excelRow = rowNum + 1;
+            summary.setRowsRead(summary.getRowsRead() + 1);
+            String trimmedEmail = email == null ? "" : email.trim();
+            String trimmedName = name == null ? "" : name.trim();
+
+            if (trimmedEmail.isEmpty() || trimmedName.isEmpty()) {
+                summary.setMissingFields(summary.getMissingFields() + 1);
+                summary.reject(excelRow, "Missing email or name");
+            } else if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
+                summary.setInvalidEmails(summary.getInvalidEmails() + 1);
+                summary.reject(excelRow, "Invalid email");
+            } else if (!seenEmails.add(trimmedEmail.toLowerCase())) {
+                summary.setDuplicates(summary.getDuplicates() + 1);
+                summary.reject(excelRow, "Duplicate email");
+            } else {
+                CandidateDto candidate = new CandidateDto();
+                candidate.setEmail(trimmedEmail);
+                candidate.setName(trimmedName);
+                summary.setCandidates(summary.getCandidates() + 1);
+                sink.accept(candidate);
+            }
+        }
+    }
+}
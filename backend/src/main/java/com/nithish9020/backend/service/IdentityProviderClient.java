@@ -0,0 +1,174 @@
+package com.nithish9020.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * HTTP client for the OAuth providers' token and userinfo endpoints.
+ * <ul>
+ * <li>One shared JDK HttpClient: keep-alive connection reuse, HTTP/2 where the
+ * provider negotiates it, and connect and read timeouts.</li>
+ * <li>Per host, at most {@code app.idp.max-concurrent-per-host} calls in flight;
+ * callers wait at most {@code app.idp.acquire-timeout-ms} for a turn.</li>
+ * <li>Per host, a circuit breaker that opens after
+ * {@code app.idp.breaker.failure-threshold} consecutive failures (timeouts,
+ * connection errors, 5xx). While open, calls fail immediately. After
+ * {@code app.idp.breaker.open-seconds} a single probe call decides whether it
+ * closes again. 4xx answers such as invalid_grant are the caller's problem and
+ * do not count as failures.</li>
+ * </ul>
+ * Together these keep a slow provider from tying up request threads.
+ */
+@Component
+@Slf4j
+public class IdentityProviderClient {
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+    private final int maxConcurrentPerHost;
+    private final long acquireTimeoutMillis;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, HostGuard> guards = new ConcurrentHashMap<>();
+
+    public IdentityProviderClient(@Value("${app.idp.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${app.idp.read-timeout-ms:5000}") long readTimeoutMillis,
+            @Value("${app.idp.max-concurrent-per-host:20}") int maxConcurrentPerHost,
+            @Value("${app.idp.acquire-timeout-ms:500}") long acquireTimeoutMillis,
+            @Value("${app.idp.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.idp.breaker.open-seconds:30}") long openSeconds) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openSeconds * 1000;
+    }
+
+    // POSTs a URL-encoded form and returns the JSON object response
+    public Map<String, Object> postForm(String url, String formData) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        return call(url, () -> restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(formData, headers),
+                JSON_OBJECT).getBody());
+    }
+
+    // GETs a JSON object, optionally with a bearer token
+    public Map<String, Object> get(String url, String bearerToken) {
+        HttpHeaders headers = new HttpHeaders();
+        if (bearerToken != null) {
+            headers.setBearerAuth(bearerToken);
+        }
+        return call(url, () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers),
+                JSON_OBJECT).getBody());
+    }
+
+    // Breaker state per provider host: CLOSED, OPEN or HALF_OPEN
+    public Map<String, String> getBreakerStates() {
+        Map<String, String> states = new ConcurrentHashMap<>();
+        guards.forEach((host, guard) -> states.put(host, guard.state()));
+        return states;
+    }
+
+    private <T> T call(String url, Supplier<T> request) {
+        String host = URI.create(url).getHost();
+        HostGuard guard = guards.computeIfAbsent(host, h -> new HostGuard());
+        guard.enter(host);
+        try {
+            T result = request.get();
+            guard.succeeded();
+            return result;
+        } catch (HttpClientErrorException e) {
+            guard.succeeded(); // the provider answered; the request was wrong
+            throw e;
+        } catch (RuntimeException e) {
+            guard.failed(host);
+            throw e;
+        } finally {
+            guard.permits.release();
+        }
+    }
+
+    private class HostGuard {
+        private final Semaphore permits = new Semaphore(maxConcurrentPerHost);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean probing = new AtomicBoolean();
+        private volatile long openUntil;
+
+        void enter(String host) {
+            long opened = openUntil;
+            if (opened != 0) {
+                if (System.currentTimeMillis() < opened || !probing.compareAndSet(false, true)) {
+                    throw new RuntimeException("Identity provider " + host
+                            + " is temporarily unavailable. Please try again shortly.");
+                }
+            }
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                probing.set(false);
+                throw new RuntimeException("Identity provider " + host + " is busy. Please try again shortly.");
+            }
+        }
+
+        void succeeded() {
+            consecutiveFailures.set(0);
+            if (openUntil != 0) {
+                openUntil = 0;
+                log.info("Identity provider circuit closed again");
+            }
+            probing.set(false);
+        }
+
+        void failed(String host) {
+            int failures = consecutiveFailures.incrementAndGet();
+            if (probing.get() || failures >= failureThreshold) {
+                openUntil = System.currentTimeMillis() + openMillis;
+                log.warn("Identity provider {} failed {} times in a row, failing fast for {} s", host, failures,
+                        openMillis / 1000);
+            }
+            probing.set(false);
+        }
+
+        String state() {
+            long opened = openUntil;
+            if (opened == 0) {
+                return "CLOSED";
+            }
+            return System.currentTimeMillis() < opened ? "OPEN" : "HALF_OPEN";
+        }
+    }
+}
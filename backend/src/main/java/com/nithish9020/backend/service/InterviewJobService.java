@@ -0,0 +1,339 @@
+package com.nithish9020.backend.service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CandidateRegistrationResult;
+import com.nithish9020.backend.dto.CandidateRegistrationResult.ChunkFailure;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import com.nithish9020.backend.dto.InterviewJobStatus;
+import com.nithish9020.backend.entity.InterviewJob;
+import com.nithish9020.backend.entity.InterviewJob.Stage;
+import com.nithish9020.backend.entity.InterviewJob.Status;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewJobRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs interview creation (Excel parse, validation, interview save and
+ * candidate registration) outside the HTTP request. Job state lives in the
+ * interview_jobs collection and the upload in GridFS. Each node renews the
+ * lease of its running jobs on a timer, independent of how often a job
+ * writes progress, so a job whose node dies stops heartbeating and is
+ * resumed by whichever node polls next.
+ */
+@Service
+@Slf4j
+public class InterviewJobService {
+    private static final int PROGRESS_EVERY_CANDIDATES = 5_000;
+
+    private final InterviewJobRepository jobRepository;
+    private final InterviewRepository interviewRepository;
+    private final ApplicantInterviewRepository applicantInterviewRepository;
+    private final InterviewService interviewService;
+    private final ExcelCandidateImporter excelCandidateImporter;
+    private final GridFsTemplate gridFsTemplate;
+    private final ServiceMetrics metrics;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int workers;
+    private final Duration staleAfter;
+    private final int maxAttempts;
+    private final int candidateBatchSize;
+    private final ExecutorService executor;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    // A lock rather than synchronized: claimNext blocks on Mongo and would pin a virtual thread
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    public InterviewJobService(InterviewJobRepository jobRepository,
+            InterviewRepository interviewRepository,
+            ApplicantInterviewRepository applicantInterviewRepository,
+            InterviewService interviewService,
+            ExcelCandidateImporter excelCandidateImporter,
+            GridFsTemplate gridFsTemplate,
+            ServiceMetrics metrics,
+            BlockingExecutors blockingExecutors,
+            @Value("${app.jobs.workers:4}") int workers,
+            @Value("${app.jobs.stale-after-seconds:60}") long staleAfterSeconds,
+            @Value("${app.jobs.max-attempts:3}") int maxAttempts,
+            @Value("${app.interviews.candidate-batch-size:1000}") int candidateBatchSize) {
+        this.jobRepository = jobRepository;
+        this.interviewRepository = interviewRepository;
+        this.applicantInterviewRepository = applicantInterviewRepository;
+        this.interviewService = interviewService;
+        this.excelCandidateImporter = excelCandidateImporter;
+        this.gridFsTemplate = gridFsTemplate;
+        this.metrics = metrics;
+        this.workers = workers;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.maxAttempts = maxAttempts;
+        this.candidateBatchSize = candidateBatchSize;
+        // Admission is bounded by the running counter in dispatch(), not by the queue
+        this.executor = blockingExecutors.newExecutor("interview-job", workers);
+    }
+
+    public String submit(CreateInterviewRequest request, MultipartFile file, String createdBy) throws IOException {
+        InterviewJob job = new InterviewJob();
+        job.setCreatedBy(createdBy);
+        job.setStatus(Status.QUEUED);
+        job.setStage(Stage.PARSE);
+        job.setRequest(request);
+        job.setInterviewId(new ObjectId().toHexString());
+        job.setCreatedAt(Instant.now());
+
+        if (file != null && !file.isEmpty()) {
+            try (InputStream in = file.getInputStream()) {
+                ObjectId fileId = gridFsTemplate.store(in, file.getOriginalFilename(), file.getContentType());
+                job.setFileId(fileId.toHexString());
+            }
+            job.setFileName(file.getOriginalFilename());
+        }
+
+        String jobId = jobRepository.save(job).getId();
+        log.info("Queued interview job {} for {}", jobId, createdBy);
+        dispatch();
+        return jobId;
+    }
+
+    public InterviewJobStatus getJob(String jobId, String username) {
+        InterviewJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getCreatedBy().equals(username)) {
+            throw new RuntimeException("Unauthorized to view this job");
+        }
+        return toStatus(job);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:5000}")
+    public void poll() {
+        long abandoned = jobRepository.failAbandoned(Instant.now().minus(staleAfter), maxAttempts);
+        if (abandoned > 0) {
+            log.warn("Marked {} abandoned interview jobs as failed", abandoned);
+        }
+        dispatch();
+    }
+
+    // Keeps this node's leases alive while a stage runs for longer than staleAfter without writing progress
+    @Scheduled(fixedDelayString = "${app.jobs.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        List<String> jobIds = List.copyOf(runningJobs);
+        long renewed = jobRepository.renewLeases(jobIds, nodeId);
+        if (renewed < jobIds.size()) {
+            // The job itself notices on its next progress write and stops
+            log.warn("Node {} lost the lease on {} of {} running interview jobs", nodeId,
+                    jobIds.size() - renewed, jobIds.size());
+        }
+    }
+
+    // Claims jobs while this node has idle workers
+    private void dispatch() {
+        dispatchLock.lock();
+        try {
+            while (running.get() < workers) {
+                Optional<InterviewJob> claimed = jobRepository.claimNext(nodeId, Instant.now().minus(staleAfter),
+                        maxAttempts);
+                if (claimed.isEmpty()) {
+                    return;
+                }
+                InterviewJob job = claimed.get();
+                running.incrementAndGet();
+                runningJobs.add(job.getId());
+                log.info("Node {} picked up interview job {} (attempt {})", nodeId, job.getId(),
+                        job.getAttempts());
+                executor.execute(() -> run(job));
+            }
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private void run(InterviewJob job) {
+        try {
+            List<CandidateDto> candidates = parse(job);
+            persist(job, candidates);
+            complete(job);
+        } catch (LostOwnershipException e) {
+            log.warn("Interview job {} was taken over by another node", job.getId());
+        } catch (Exception e) {
+            log.error("Interview job {} failed: {}", job.getId(), e.getMessage());
+            jobRepository.updateIfOwner(job.getId(), nodeId, new Update()
+                    .set("status", Status.FAILED)
+                    .set("error", e.getMessage())
+                    .set("finishedAt", Instant.now()));
+        } finally {
+            runningJobs.remove(job.getId());
+            running.decrementAndGet();
+            dispatch();
+        }
+    }
+
+    // Parse + validate stage. Always re-run on resume: it is deterministic and persists nothing.
+    private List<CandidateDto> parse(InterviewJob job) throws IOException {
+        List<CandidateDto> candidates = new ArrayList<>();
+        if (job.getRequest().getCandidates() != null) {
+            candidates.addAll(job.getRequest().getCandidates());
+        }
+
+        ExcelImportSummary summary = null;
+        if (job.getFileId() != null) {
+            GridFSFile upload = gridFsTemplate.findOne(
+                    new Query(Criteria.where("_id").is(new ObjectId(job.getFileId()))));
+            if (upload == null) {
+                throw new IllegalStateException("Uploaded file is no longer available");
+            }
+
+            Path spooled;
+            try (InputStream in = gridFsTemplate.getResource(upload).getInputStream()) {
+                spooled = excelCandidateImporter.spool(in);
+            }
+            try {
+                summary = excelCandidateImporter.importCandidates(spooled, candidate -> {
+                    candidates.add(candidate);
+                    if (candidates.size() % PROGRESS_EVERY_CANDIDATES == 0) {
+                        progress(job, new Update().set("rowsRead", candidates.size()));
+                    }
+                });
+            } finally {
+                Files.deleteIfExists(spooled);
+            }
+            metrics.recordExcelImport(summary);
+            if (summary.getCandidates() == 0) {
+                throw new IllegalArgumentException("No valid candidates found in Excel file. Please check the format.");
+            }
+        }
+
+        Update parsed = new Update()
+                .set("stage", Stage.PERSIST)
+                .set("candidatesTotal", candidates.size())
+                .min("persistStartedAt", Instant.now());
+        if (summary != null) {
+            parsed.set("rowsRead", summary.getRowsRead()).set("importSummary", summary);
+            job.setImportSummary(summary);
+        }
+        progress(job, parsed);
+        return candidates;
+    }
+
+    private void persist(InterviewJob job, List<CandidateDto> candidates) {
+        String interviewId = job.getInterviewId();
+        if (!interviewRepository.existsById(interviewId)) {
+            interviewService.saveInterview(job.getRequest(), job.getCreatedBy(), interviewId);
+        }
+
+        int chunkSize = job.getChunkSize() > 0 ? job.getChunkSize() : candidateBatchSize;
+        progress(job, new Update().set("chunkSize", chunkSize));
+
+        for (int chunk = job.getChunksDone(); chunk * chunkSize < candidates.size(); chunk++) {
+            int start = chunk * chunkSize;
+            List<CandidateDto> batch = candidates.subList(start, Math.min(start + chunkSize, candidates.size()));
+            CandidateRegistrationResult result = applicantInterviewRepository.addInterviewIdToAll(batch,
+                    interviewId, batch.size());
+
+            Update registered = new Update()
+                    .inc("inserted", result.getInserted())
+                    .inc("updated", result.getUpdated())
+                    .inc("failed", result.getFailed())
+                    .inc("candidatesRegistered", batch.size())
+                    .set("chunksDone", chunk + 1);
+            if (!result.getFailedChunks().isEmpty()) {
+                ChunkFailure failure = result.getFailedChunks().get(0);
+                registered.push("failedChunks", new ChunkFailure(chunk, start, failure.getFailedWrites(),
+                        failure.getError()));
+            }
+            progress(job, registered);
+        }
+    }
+
+    private void complete(InterviewJob job) {
+        progress(job, new Update()
+                .set("status", Status.COMPLETED)
+                .set("stage", Stage.DONE)
+                .set("finishedAt", Instant.now()));
+        if (job.getFileId() != null) {
+            gridFsTemplate.delete(new Query(Criteria.where("_id").is(new ObjectId(job.getFileId()))));
+        }
+        log.info("Interview job {} completed, interview {}", job.getId(), job.getInterviewId());
+    }
+
+    private void progress(InterviewJob job, Update update) {
+        if (!jobRepository.updateIfOwner(job.getId(), nodeId, update)) {
+            throw new LostOwnershipException();
+        }
+    }
+
+    private InterviewJobStatus toStatus(InterviewJob job) {
+        InterviewJobStatus status = new InterviewJobStatus();
+        status.setId(job.getId());
+        status.setStatus(job.getStatus().name());
+        status.setStage(job.getStage().name());
+        status.setInterviewId(job.getStatus() == Status.COMPLETED ? job.getInterviewId() : null);
+        status.setRowsRead(job.getRowsRead());
+        status.setCandidatesTotal(job.getCandidatesTotal());
+        status.setCandidatesRegistered(job.getCandidatesRegistered());
+        status.setInserted(job.getInserted());
+        status.setUpdated(job.getUpdated());
+        status.setFailed(job.getFailed());
+        status.setFailedChunks(job.getFailedChunks());
+        status.setImportSummary(job.getImportSummary());
+        status.setError(job.getError());
+        status.setAttempts(job.getAttempts());
+        status.setCreatedAt(job.getCreatedAt());
+        status.setFinishedAt(job.getFinishedAt());
+
+        if (job.getStage() == Stage.DONE) {
+            status.setPercentComplete(100);
+        } else if (job.getCandidatesTotal() > 0) {
+            status.setPercentComplete(job.getCandidatesRegistered() * 100 / job.getCandidatesTotal());
+        }
+        if (job.getImportSummary() != null) {
+            status.setRowsPerSecond(job.getImportSummary().getRowsPerSecond());
+        }
+        if (job.getPersistStartedAt() != null) {
+            Instant end = job.getFinishedAt() != null ? job.getFinishedAt() : Instant.now();
+            long millis = Math.max(1, Duration.between(job.getPersistStartedAt(), end).toMillis());
+            status.setCandidatesPerSecond(job.getCandidatesRegistered() * 1000L / millis);
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished jobs stop heartbeating and are resumed elsewhere
+        executor.shutdownNow();
+    }
+
+    private static class LostOwnershipException extends RuntimeException {
+    }
+}
@@ -1,25 +1,49 @@
 package com.nithish9020.backend.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CandidateRegistrationResult;
 import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.CreateInterviewResponse;
+import com.nithish9020.backend.dto.ExcelImportSummary;
 import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.dto.InterviewPage;
+import com.nithish9020.backend.dto.InterviewSummary;
+import com.nithish9020.backend.dto.SlotDelta.Change;
+import com.nithish9020.backend.dto.SlotHold;
 import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.ApplicantInterview.Booking;
 import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.entity.Slot;
 import com.nithish9020.backend.repository.ApplicantInterviewRepository;
 import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import com.nithish9020.backend.repository.SlotRepository;
+import com.nithish9020.backend.service.SlotHoldService.HeldSlot;
+import com.nithish9020.backend.service.SlotHoldService.HoldOutcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,135 +51,163 @@ import java.util.stream.Collectors;
 @Slf4j
 public class InterviewService {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Pattern HH_MM = Pattern.compile("([01]\\d|2[0-3]):[0-5]\\d");
 
     private final InterviewRepository interviewRepository;
+    private final SlotRepository slotRepository;
     private final ApplicantInterviewRepository applicantInterviewRepository;
+    private final ExcelCandidateImporter excelCandidateImporter;
+    private final ObjectMapper objectMapper;
+    private final CandidateViewCache viewCache;
+    private final SlotFeedService slotFeed;
+    private final ServiceMetrics metrics;
+    private final AvailabilityIndex availabilityIndex;
+    private final SlotHoldService slotHolds;
+
+    @Value("${app.interviews.candidate-batch-size:1000}")
+    private int candidateBatchSize;
+
+    public ExcelImportSummary processExcelFile(MultipartFile file, Consumer<CandidateDto> sink) throws IOException {
+        return metrics.time("processExcelFile", () -> importExcelFile(file, sink));
+    }
 
-    public List<CandidateDto> processExcelFile(MultipartFile file) throws IOException {
-        List<CandidateDto> candidates = new ArrayList<>();
+    private ExcelImportSummary importExcelFile(MultipartFile file, Consumer<CandidateDto> sink) throws IOException {
         log.info("Starting to process Excel file: {}", file.getOriginalFilename());
+        ExcelImportSummary summary = excelCandidateImporter.importCandidates(file, sink);
+        metrics.recordExcelImport(summary);
+        log.info("Processed Excel file {}: {} rows, {} candidates, {} rejected in {} ms",
+                file.getOriginalFilename(), summary.getRowsRead(), summary.getCandidates(),
+                summary.getRejected(), summary.getElapsedMillis());
 
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            int totalRows = sheet.getPhysicalNumberOfRows();
-            log.info("Total rows in sheet: {}", totalRows);
-
-            // Skip header row
-            for (int i = 1; i < totalRows; i++) {
-                Row row = sheet.getRow(i);
-                if (row == null)
-                    continue;
-
-                try {
-                    Cell emailCell = row.getCell(0);
-                    Cell nameCell = row.getCell(1);
-
-                    // Add debug logging
-                    log.debug("Processing row {}: Email={}, Name={}",
-                            i,
-                            emailCell != null ? emailCell.getStringCellValue() : "null",
-                            nameCell != null ? nameCell.getStringCellValue() : "null");
-
-                    if (emailCell != null && nameCell != null
-                            && emailCell.getCellType() == CellType.STRING
-                            && nameCell.getCellType() == CellType.STRING) {
-
-                        String email = emailCell.getStringCellValue().trim();
-                        String name = nameCell.getStringCellValue().trim();
-
-                        if (!email.isEmpty() && !name.isEmpty()) {
-                            CandidateDto candidate = new CandidateDto();
-                            candidate.setEmail(email);
-                            candidate.setName(name);
-                            candidates.add(candidate);
-                            log.info("Added candidate: email={}, name={}", email, name);
-                        }
+        if (summary.getCandidates() == 0) {
+            throw new IllegalArgumentException("No valid candidates found in Excel file. Please check the format.");
+        }
+        return summary;
+    }
+
+    // Writes {"candidates": [...], "count": n, "summary": {...}} while the sheet is still being parsed
+    public StreamingResponseBody streamExcelFile(MultipartFile file) throws IOException {
+        Path spooled = excelCandidateImporter.spool(file);
+        return out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("candidates");
+                ExcelImportSummary summary = excelCandidateImporter.importCandidates(spooled, candidate -> {
+                    try {
+                        json.writeObject(candidate);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
                     }
-                } catch (Exception e) {
-                    log.error("Error processing row {}: {}", i, e.getMessage());
-                }
+                });
+                metrics.recordExcelImport(summary);
+                json.writeEndArray();
+                json.writeNumberField("count", summary.getCandidates());
+                json.writeObjectField("summary", summary);
+                json.writeEndObject();
+            } finally {
+                Files.deleteIfExists(spooled);
             }
-        }
+        };
+    }
 
-        log.info("Processed {} candidates from Excel file", candidates.size());
-        if (candidates.isEmpty()) {
-            throw new IllegalArgumentException("No valid candidates found in Excel file. Please check the format.");
+    public CreateInterviewResponse createInterview(CreateInterviewRequest request, String createdBy) {
+        String interviewId = saveInterview(request, createdBy, null);
+
+        // Register candidates with one bulk upsert per chunk instead of a find + save each
+        CandidateRegistrationResult registration = new CandidateRegistrationResult();
+        if (request.getCandidates() != null && !request.getCandidates().isEmpty()) {
+            registration = applicantInterviewRepository.addInterviewIdToAll(request.getCandidates(),
+                    interviewId, candidateBatchSize);
+            log.info("Registered candidates for interview {}: {} inserted, {} updated, {} failed",
+                    interviewId, registration.getInserted(), registration.getUpdated(),
+                    registration.getFailed());
         }
 
-        return candidates;
+        return new CreateInterviewResponse(interviewId, registration);
     }
 
-    @Transactional
-    public String createInterview(CreateInterviewRequest request, String createdBy) {
+    // Saves the interview document alone; candidates are registered separately.
+    // A caller-chosen id makes the save idempotent for retried jobs.
+    public String saveInterview(CreateInterviewRequest request, String createdBy, String id) {
         Interview interview = new Interview();
+        interview.setId(id);
         interview.setInterviewName(request.getInterviewName());
         interview.setFromDate(request.getFromDate());
         interview.setToDate(request.getToDate());
 
-        // Create timeSlots map with null values for each slot
-        Map<String, Map<String, String>> timeSlots = new HashMap<>();
-
-        // Ensure timeSlots is not null in the request
-        if (request.getTimeSlots() != null) {
-            // Iterate over the map entries instead of the map itself
-            request.getTimeSlots().forEach((date, slots) -> {
-                Map<String, String> dailySlots = new HashMap<>();
-                slots.forEach((time, applicant) -> {
-                    dailySlots.put(time, null); // Initialize all slots as null
-                });
-                timeSlots.put(date, dailySlots);
-            });
-        }
-
+        // Every requested slot starts free, whatever the request put in it
+        SlotGrid timeSlots = SlotGrid.allFree(request.getTimeSlots());
         interview.setTimeSlots(timeSlots);
+        interview.setTotalSlots(timeSlots.totalSlots());
+        interview.setOpenSlots(interview.getTotalSlots());
+        interview.setSlotsNormalized(true);
         interview.setCreatedBy(createdBy);
         interview.setCreatedAt(LocalDateTime.now());
 
         Interview savedInterview = interviewRepository.save(interview);
+        slotRepository.upsertSlots(List.of(savedInterview));
+        viewCache.invalidate();
+        return savedInterview.getId();
+    }
 
-        // Process each candidate
-        if (request.getCandidates() != null && !request.getCandidates().isEmpty()) {
-            request.getCandidates().forEach(candidate -> processApplicant(candidate, savedInterview.getId()));
+    // Newest first, summaries only; the cursor is opaque to clients and names the last row served
+    public InterviewPage getInterviewsByCreator(String createdBy, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        LocalDateTime createdBefore = null;
+        String idBefore = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            createdBefore = LocalDateTime.parse(position[0]);
+            idBefore = position[1];
         }
 
-        return savedInterview.getId();
+        // One extra row tells whether another page exists
+        List<Interview> rows = interviewRepository.findSummariesByCreator(createdBy, createdBefore, idBefore,
+                limit + 1);
+        List<Interview> page = rows.subList(0, Math.min(limit, rows.size()));
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            Interview last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return new InterviewPage(page.stream().map(this::toSummary).collect(Collectors.toList()), nextCursor);
     }
 
-    private void processApplicant(CandidateDto candidate, String interviewId) {
-        try {
-            // Try to find existing applicant
-            applicantInterviewRepository.findByEmail(candidate.getEmail())
-                    .ifPresentOrElse(
-                            // Update existing applicant
-                            existingApplicant -> {
-                                if (existingApplicant.getInterviewIds() == null) {
-                                    existingApplicant.setInterviewIds(new ArrayList<>());
-                                }
-                                if (!existingApplicant.getInterviewIds().contains(interviewId)) {
-                                    existingApplicant.getInterviewIds().add(interviewId);
-                                    existingApplicant.setUpdatedAt(LocalDateTime.now());
-                                    applicantInterviewRepository.save(existingApplicant);
-                                    log.info("Updated existing applicant: {}", candidate.getEmail());
-                                }
-                            },
-                            // Create new applicant
-                            () -> {
-                                ApplicantInterview newApplicant = new ApplicantInterview();
-                                newApplicant.setEmail(candidate.getEmail());
-                                newApplicant.setName(candidate.getName());
-                                newApplicant.setInterviewIds(new ArrayList<>(Collections.singletonList(interviewId)));
-                                newApplicant.setUpdatedAt(LocalDateTime.now());
-                                applicantInterviewRepository.save(newApplicant);
-                                log.info("Created new applicant: {}", candidate.getEmail());
-                            });
-        } catch (Exception e) {
-            log.error("Error processing applicant {}: {}", candidate.getEmail(), e.getMessage());
-            throw new RuntimeException("Failed to process applicant: " + candidate.getEmail(), e);
-        }
+    private InterviewSummary toSummary(Interview interview) {
+        InterviewSummary summary = new InterviewSummary();
+        summary.setId(interview.getId());
+        summary.setInterviewName(interview.getInterviewName());
+        summary.setFromDate(interview.getFromDate());
+        summary.setToDate(interview.getToDate());
+        summary.setCreatedAt(interview.getCreatedAt());
+        int total = interview.getTotalSlots() == null ? 0 : interview.getTotalSlots();
+        int open = interview.getOpenSlots() == null ? 0 : interview.getOpenSlots();
+        summary.setTotalSlots(total);
+        summary.setOpenSlots(open);
+        summary.setBookedSlots(total - open);
+        return summary;
     }
 
-    public List<Interview> getInterviewsByCreator(String createdBy) {
-        return interviewRepository.findByCreatedBy(createdBy);
+    private static String encodeCursor(LocalDateTime createdAt, String id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|");
+            if (position.length != 2 || !ObjectId.isValid(position[1])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     public void deleteInterview(String id, String createdBy) {
@@ -167,6 +219,8 @@ public class InterviewService {
         }
 
         interviewRepository.deleteById(id);
+        slotRepository.deleteByInterviewId(id);
+        viewCache.invalidate();
     }
 
     public Interview getInterviewById(String id, String username) {
@@ -181,81 +235,247 @@ public class InterviewService {
         return interview;
     }
 
+    // Same list for every candidate: from this node's availability index when it is following
+    // the interviews collection, otherwise through the shared view cache. Held slots are taken
+    // out on the way back, so the cached list itself never changes with holds.
     public List<InterviewDto> getAvailableInterviews(String email) {
         log.info("Finding available interviews for email: {}", email);
-        List<Interview> allInterviews = interviewRepository.findAll();
-
-        return allInterviews.stream()
-                .filter(this::hasAvailableSlots)
-                .map(interview -> {
-                    InterviewDto dto = new InterviewDto();
-                    dto.setId(interview.getId());
-                    dto.setInterviewName(interview.getInterviewName());
-                    dto.setFromDate(interview.getFromDate().format(DATE_FORMATTER));
-                    dto.setToDate(interview.getToDate().format(DATE_FORMATTER));
-                    dto.setAvailableSlots(getAvailableSlots(interview));
-                    dto.setCreatedBy(interview.getCreatedBy());
-                    return dto;
-                })
+        return metrics.time("getAvailableInterviews", () -> withoutHeldSlots(availabilityIndex.isReady()
+                ? availabilityIndex.availableInterviews()
+                : viewCache.get(CandidateViewCache.AVAILABLE_INTERVIEWS, new TypeReference<List<InterviewDto>>() {
+                }, this::loadAvailableInterviews)));
+    }
+
+    private List<InterviewDto> withoutHeldSlots(List<InterviewDto> interviews) {
+        Map<String, Map<String, Set<String>>> holds = slotHolds.activeHolds();
+        if (holds.isEmpty()) {
+            return interviews;
+        }
+        List<InterviewDto> visible = new ArrayList<>(interviews.size());
+        for (InterviewDto interview : interviews) {
+            Map<String, Set<String>> held = holds.get(interview.getId());
+            if (held == null) {
+                visible.add(interview);
+                continue;
+            }
+            Map<String, List<String>> availableSlots = new LinkedHashMap<>();
+            interview.getAvailableSlots().forEach((date, times) -> {
+                Set<String> heldTimes = held.getOrDefault(date, Set.of());
+                List<String> free = times.stream().filter(time -> !heldTimes.contains(time)).toList();
+                if (!free.isEmpty()) {
+                    availableSlots.put(date, free);
+                }
+            });
+            if (!availableSlots.isEmpty()) {
+                InterviewDto copy = new InterviewDto();
+                copy.setId(interview.getId());
+                copy.setInterviewName(interview.getInterviewName());
+                copy.setFromDate(interview.getFromDate());
+                copy.setToDate(interview.getToDate());
+                copy.setAvailableSlots(availableSlots);
+                copy.setCreatedBy(interview.getCreatedBy());
+                visible.add(copy);
+            }
+        }
+        return visible;
+    }
+
+    private List<InterviewDto> loadAvailableInterviews() {
+        List<Interview> openInterviews = interviewRepository.findOpenInterviews(LocalDate.now());
+
+        return openInterviews.stream()
+                .map(InterviewService::toAvailableDto)
                 .collect(Collectors.toList());
     }
 
-    private boolean hasAvailableSlots(Interview interview) {
-        return interview.getTimeSlots().values().stream()
-                .anyMatch(slots -> slots.containsValue(null));
+    static InterviewDto toAvailableDto(Interview interview) {
+        InterviewDto dto = new InterviewDto();
+        dto.setId(interview.getId());
+        dto.setInterviewName(interview.getInterviewName());
+        dto.setFromDate(interview.getFromDate().format(DATE_FORMATTER));
+        dto.setToDate(interview.getToDate().format(DATE_FORMATTER));
+        dto.setAvailableSlots(interview.getTimeSlots().availableSlots());
+        dto.setCreatedBy(interview.getCreatedBy());
+        return dto;
     }
 
-    private Map<String, List<String>> getAvailableSlots(Interview interview) {
-        Map<String, List<String>> availableSlots = new HashMap<>();
-        interview.getTimeSlots().forEach((date, slots) -> {
-            List<String> freeSlots = slots.entrySet().stream()
-                    .filter(entry -> entry.getValue() == null)
-                    .map(Map.Entry::getKey)
-                    .sorted()
-                    .collect(Collectors.toList());
-            if (!freeSlots.isEmpty()) {
-                availableSlots.put(date, freeSlots);
+    // Indexed lookup on the slots collection, less the slots other candidates are holding
+    public List<String> getFreeSlots(String interviewId, String date) {
+        Set<String> held = slotHolds.heldSlots(interviewId).getOrDefault(date, Set.of());
+        return slotRepository.findByInterviewIdAndDateAndBookedByIsNullOrderByTimeAsc(interviewId, date).stream()
+                .map(Slot::getTime)
+                .filter(time -> !held.contains(time))
+                .collect(Collectors.toList());
+    }
+
+    // Leases the slot for the candidate to confirm; empty when it is booked or someone else holds it
+    public Optional<SlotHold> holdSlot(String interviewId, String date, String timeSlot, String email) {
+        return metrics.time("holdSlot", hold -> hold.isPresent() ? "success" : "conflict",
+                () -> placeHold(interviewId, date, timeSlot, email));
+    }
+
+    private Optional<SlotHold> placeHold(String interviewId, String date, String timeSlot, String email) {
+        // The lease key and the holds index are built from these, so only canonical values get that far
+        if (!ObjectId.isValid(interviewId)) {
+            throw new IllegalArgumentException("Invalid interview id");
+        }
+        try {
+            LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        if (!HH_MM.matcher(timeSlot).matches()) {
+            throw new IllegalArgumentException("Invalid time slot");
+        }
+
+        // Only real slots can be leased; booked ones fail here rather than at confirm
+        Optional<Slot> slot = slotRepository.findByInterviewIdAndDateAndTime(interviewId, date, timeSlot);
+        boolean booked;
+        if (slot.isPresent()) {
+            booked = slot.get().getBookedBy() != null;
+        } else {
+            // Interviews not yet copied to the slots collection are checked against their grid
+            SlotGrid grid = interviewRepository.findById(interviewId).map(Interview::getTimeSlots).orElse(null);
+            if (grid == null || !grid.contains(date, timeSlot)) {
+                throw new RuntimeException("Invalid time slot");
             }
-        });
-        return availableSlots;
+            booked = grid.bookedBy(date, timeSlot) != null;
+        }
+        if (booked) {
+            return Optional.empty();
+        }
+        HoldOutcome outcome = slotHolds.hold(interviewId, date, timeSlot, email);
+        if (!outcome.placed()) {
+            log.info("Slot {} {} in interview {} is held by another candidate", date, timeSlot, interviewId);
+            return Optional.empty();
+        }
+        if (outcome.replaced() != null) {
+            slotFeed.publish(interviewId, outcome.replaced().date(), outcome.replaced().time(), Change.RELEASED);
+        }
+        slotFeed.publish(interviewId, date, timeSlot, Change.HELD);
+        return Optional.of(new SlotHold(interviewId, date, timeSlot, outcome.expiresAt()));
+    }
+
+    // Books the slot the candidate holds; the hold is gone afterwards whatever the outcome
+    public ClaimResult confirmHold(String interviewId, String email) {
+        return metrics.time("confirmHold", result -> result == ClaimResult.ALREADY_TAKEN ? "conflict" : "success",
+                () -> {
+                    HeldSlot held = slotHolds.extend(interviewId, email);
+                    if (held == null) {
+                        throw new IllegalStateException("Your hold has expired. Please choose a slot again.");
+                    }
+                    ClaimResult result = null;
+                    try {
+                        result = claimSlot(interviewId, held.date(), held.time(), email);
+                        return result;
+                    } finally {
+                        // A booked slot was announced as BOOKED; one whose booking failed is free again
+                        HeldSlot released = slotHolds.release(interviewId, email);
+                        if (released != null && result == null) {
+                            slotFeed.publish(interviewId, released.date(), released.time(), Change.RELEASED);
+                        }
+                    }
+                });
+    }
+
+    public void releaseHold(String interviewId, String email) {
+        HeldSlot released = slotHolds.release(interviewId, email);
+        if (released != null) {
+            slotFeed.publish(interviewId, released.date(), released.time(), Change.RELEASED);
+        }
+    }
+
+    // Lost races are timed with outcome "conflict", so their count is the booking conflict count
+    public ClaimResult bookSlot(String interviewId, String date, String timeSlot, String email) {
+        return metrics.time("bookSlot", result -> result == ClaimResult.ALREADY_TAKEN ? "conflict" : "success",
+                () -> claimSlot(interviewId, date, timeSlot, email));
     }
 
-    @Transactional
-    public void bookSlot(String interviewId, String date, String timeSlot, String email) {
+    private ClaimResult claimSlot(String interviewId, String date, String timeSlot, String email) {
         log.info("Booking slot for interview: {} on date: {} at time: {} for user: {}",
                 interviewId, date, timeSlot, email);
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new RuntimeException("Interview not found"));
+        if (slotHolds.isHeldByOther(interviewId, date, timeSlot, email)) {
+            log.info("Slot {} {} in interview {} is held by another candidate", date, timeSlot, interviewId);
+            return ClaimResult.ALREADY_TAKEN;
+        }
 
-        Map<String, String> daySlots = interview.getTimeSlots().get(date);
-        if (daySlots == null || !daySlots.containsKey(timeSlot)) {
+        // One booking per applicant and interview: the booking index entry is taken first, so a
+        // second booking in the same interview fails before any slot is touched
+        if (!applicantInterviewRepository.addBooking(email, interviewId, date, timeSlot)) {
+            throw new RuntimeException("You have already booked a slot in this interview");
+        }
+        ClaimResult result;
+        try {
+            result = claimSlotDocuments(interviewId, date, timeSlot, email);
+        } catch (RuntimeException e) {
+            applicantInterviewRepository.removeBooking(email, interviewId);
+            throw e;
+        }
+        if (result != ClaimResult.CLAIMED) {
+            applicantInterviewRepository.removeBooking(email, interviewId);
+        }
+        if (result == ClaimResult.NO_SUCH_SLOT) {
             throw new RuntimeException("Invalid time slot");
         }
-
-        if (daySlots.get(timeSlot) != null) {
-            throw new RuntimeException("Slot already booked");
+        if (result == ClaimResult.ALREADY_TAKEN) {
+            log.info("Slot {} {} in interview {} is already taken", date, timeSlot, interviewId);
+            return result;
         }
 
-        daySlots.put(timeSlot, email);
-        interviewRepository.save(interview);
-
-        // Update applicant's interviews
-        applicantInterviewRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        applicant -> {
-                            if (!applicant.getInterviewIds().contains(interviewId)) {
-                                applicant.getInterviewIds().add(interviewId);
-                                applicantInterviewRepository.save(applicant);
-                            }
-                        },
-                        () -> {
-                            ApplicantInterview newApplicant = new ApplicantInterview();
-                            newApplicant.setEmail(email);
-                            newApplicant.setInterviewIds(new ArrayList<>(List.of(interviewId)));
-                            applicantInterviewRepository.save(newApplicant);
-                        });
+        // Only a booked slot grants access to the interview, so failed claims never reach this
+        applicantInterviewRepository.addInterviewId(email, interviewId);
+        viewCache.invalidate();
+        slotFeed.publish(interviewId, date, timeSlot, Change.BOOKED);
 
         log.info("Successfully booked slot for interview: {}", interviewId);
+        return result;
+    }
+
+    // The slot document is the booking gate. The interview's timeSlots map is then updated
+    // as a mirror for the interviewer views, and is the only gate for interviews that
+    // have no slot documents yet. A slot document copied from a stale read can be free while
+    // the mirror already holds a booking; the mirror wins and the slot claim is undone.
+    private ClaimResult claimSlotDocuments(String interviewId, String date, String timeSlot, String email) {
+        ClaimResult result = slotRepository.claim(interviewId, date, timeSlot, email);
+        if (result != ClaimResult.ALREADY_TAKEN) {
+            ClaimResult mirrored = interviewRepository.claimSlot(interviewId, date, timeSlot, email);
+            if (result == ClaimResult.NO_SUCH_SLOT) {
+                result = mirrored;
+            } else if (mirrored == ClaimResult.ALREADY_TAKEN) {
+                log.warn("Slot {} {} in interview {} was free but the interview document has it booked",
+                        date, timeSlot, interviewId);
+                slotRepository.release(interviewId, date, timeSlot, email);
+                result = ClaimResult.ALREADY_TAKEN;
+            } else if (mirrored != ClaimResult.CLAIMED) {
+                log.warn("Slot {} {} in interview {} was booked but the interview document reported {}",
+                        date, timeSlot, interviewId, mirrored);
+            }
+        }
+        return result;
+    }
+
+    public void cancelBooking(String interviewId, String email) {
+        log.info("Cancelling booking for interview: {} for user: {}", interviewId, email);
+
+        Booking booking = applicantInterviewRepository.findById(email)
+                .map(ApplicantInterview::getBookings)
+                .map(bookings -> bookings.get(interviewId))
+                .orElseThrow(() -> new RuntimeException("No booking found for this interview"));
+
+        boolean releasedSlot = slotRepository.release(interviewId, booking.getDate(), booking.getTime(), email);
+        boolean releasedMirror = interviewRepository.releaseSlot(interviewId, booking.getDate(), booking.getTime(),
+                email);
+        if (!releasedSlot && !releasedMirror) {
+            log.warn("Slot {} {} in interview {} was no longer booked by the applicant",
+                    booking.getDate(), booking.getTime(), interviewId);
+        }
+        applicantInterviewRepository.removeBooking(email, interviewId);
+        viewCache.invalidate();
+        if (releasedSlot || releasedMirror) {
+            slotFeed.publish(interviewId, booking.getDate(), booking.getTime(), Change.RELEASED);
+        }
+
+        log.info("Successfully cancelled booking for interview: {}", interviewId);
     }
 }
\ No newline at end of file
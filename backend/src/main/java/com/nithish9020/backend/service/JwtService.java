@@ -1,25 +1,71 @@
 // src/main/java/com/nithish9020/backend/service/JwtService.java
 package com.nithish9020.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
 
+    // Claims that mark a token as good only for opening one interview's slot stream
+    private static final String SCOPE = "scope";
+    private static final String STREAM_SCOPE = "slots-stream";
+    private static final String INTERVIEW_ID = "interviewId";
+
     private final SecretKey key;
     private final long expMinutes;
+    private final long streamTokenSeconds;
+    // Parsers are immutable and thread-safe, so one is built up front instead of per request
+    private final JwtParser parser;
+    // SHA-256(token) -> subject of an already verified token, dropped when the token expires
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtService(@Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration}") long expMinutes) {
+            @Value("${app.jwt.expiration}") long expMinutes,
+            @Value("${app.jwt.cache-size:10000}") long cacheSize,
+            @Value("${app.slots.stream.token-seconds:60}") long streamTokenSeconds) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expMinutes = expMinutes;
+        this.streamTokenSeconds = streamTokenSeconds;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+                        return Math.max(0, TimeUnit.MILLISECONDS.toNanos(
+                                token.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(hash, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String hash, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
     }
 
     // Create token with email as subject
@@ -33,11 +79,45 @@ public class JwtService {
                 .compact();
     }
 
-    // Validate token and extract subject
+    // A short-lived token that only opens the given interview's slot stream. EventSource cannot
+    // send an Authorization header, so it travels in the URL, where a session token must not.
+    public String generateStreamToken(String email, String interviewId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(SCOPE, STREAM_SCOPE)
+                .claim(INTERVIEW_ID, interviewId)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(streamTokenSeconds)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // Subject of a stream token issued for this interview
+    public String validateStreamToken(String token, String interviewId) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (!STREAM_SCOPE.equals(claims.get(SCOPE)) || !interviewId.equals(claims.get(INTERVIEW_ID))) {
+            throw new UnsupportedJwtException("Not a stream token for this interview");
+        }
+        return claims.getSubject();
+    }
+
+    // Validate token and extract subject; repeat tokens are answered from the cache
     public String validateAndGetSubject(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody().getSubject();
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.subject();
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.get(SCOPE) != null) {
+            throw new UnsupportedJwtException("Scoped tokens cannot authenticate requests");
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(hash, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
+        return claims.getSubject();
     }
 
     // Add this new method
@@ -48,4 +128,20 @@ public class JwtService {
             throw new IllegalArgumentException("Invalid JWT token", e);
         }
     }
+
+    public CacheStats getVerificationCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(String subject, long expiresAtMillis) {
+    }
 }
@@ -0,0 +1,65 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.OutboundMail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a batch of queued mails over one SMTP connection. JavaMailSender
+ * opens a single transport per send(...) call, so a batch of n messages costs
+ * one connect/handshake/login instead of n.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailBatchSender {
+    private final JavaMailSender mailSender;
+    private final ServiceMetrics metrics;
+
+    // Returns the failures by mail id; mails not in the map were accepted by the server
+    public Map<String, Exception> send(List<OutboundMail> batch) {
+        return metrics.time("sendMailBatch", failures -> failures.isEmpty() ? "success"
+                : failures.size() < batch.size() ? "partial" : "failed", () -> sendOverOneConnection(batch));
+    }
+
+    private Map<String, Exception> sendOverOneConnection(List<OutboundMail> batch) {
+        Map<SimpleMailMessage, String> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            OutboundMail mail = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getTo());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            messages[i] = message;
+            ids.put(message, mail.getId());
+        }
+
+        Map<String, Exception> failures = new HashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(mail -> failures.put(mail.getId(), e));
+            }
+            e.getFailedMessages().forEach((message, error) -> {
+                String id = ids.get(message);
+                if (id != null) {
+                    failures.put(id, error);
+                }
+            });
+        } catch (MailException e) {
+            // Connection or authentication problem: nothing in the batch went out
+            batch.forEach(mail -> failures.put(mail.getId(), e));
+        }
+        return failures;
+    }
+}
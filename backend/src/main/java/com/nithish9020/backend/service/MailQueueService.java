@@ -0,0 +1,283 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.MailQueueStats;
+import com.nithish9020.backend.dto.OutboundMail;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbound mail queue kept in Redis so queued mail survives a restart.
+ * <ul>
+ * <li>{@code mail:queue} list of mails waiting to be sent</li>
+ * <li>{@code mail:inflight} zset of mails claimed by a sender, scored by lease expiry;
+ * a sender that dies lets the lease run out and the mail is queued again</li>
+ * <li>{@code mail:retry} zset of failed mails, scored by the time of the next attempt</li>
+ * <li>{@code mail:dead} list of mails that failed permanently or ran out of attempts,
+ * kept without their body since that may hold a one-time code</li>
+ * </ul>
+ * Delivery is at-least-once.
+ */
+@Service
+@Slf4j
+public class MailQueueService {
+    static final String QUEUE_KEY = "mail:queue";
+    static final String INFLIGHT_KEY = "mail:inflight";
+    static final String RETRY_KEY = "mail:retry";
+    static final String DEAD_KEY = "mail:dead";
+
+    // Moves up to ARGV[1] mails from the queue to the in-flight set with lease expiry ARGV[2]
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local claimed = {}
+            for i = 1, tonumber(ARGV[1]) do
+              local mail = redis.call('RPOP', KEYS[1])
+              if not mail then break end
+              redis.call('ZADD', KEYS[2], ARGV[2], mail)
+              claimed[#claimed + 1] = mail
+            end
+            return claimed
+            """, List.class);
+
+    // Moves up to ARGV[2] mails scored at or before ARGV[1] from a zset back onto the queue
+    private static final RedisScript<Long> REQUEUE_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, mail in ipairs(due) do
+              redis.call('ZREM', KEYS[1], mail)
+              redis.call('LPUSH', KEYS[2], mail)
+            end
+            return #due
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final MailBatchSender batchSender;
+    private final ObjectMapper objectMapper;
+
+    private final int senders;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+    private final long deadLetterMax;
+    private final ExecutorService executor;
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAdder queueMillis = new LongAdder();
+
+    public MailQueueService(StringRedisTemplate redis,
+            MailBatchSender batchSender,
+            ObjectMapper objectMapper,
+            BlockingExecutors blockingExecutors,
+            @Value("${app.mail.senders:2}") int senders,
+            @Value("${app.mail.batch-size:20}") int batchSize,
+            @Value("${app.mail.lease-seconds:60}") long leaseSeconds,
+            @Value("${app.mail.max-attempts:5}") int maxAttempts,
+            @Value("${app.mail.retry-base-ms:2000}") long retryBaseMillis,
+            @Value("${app.mail.retry-max-ms:300000}") long retryMaxMillis,
+            @Value("${app.mail.dead-letter-max:10000}") long deadLetterMax) {
+        this.redis = redis;
+        this.batchSender = batchSender;
+        this.objectMapper = objectMapper;
+        this.senders = senders;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.deadLetterMax = deadLetterMax;
+        this.executor = blockingExecutors.newExecutor("mail-sender", senders);
+    }
+
+    // One LPUSH on the caller's thread; the SMTP work happens on the sender pool
+    public void enqueue(String to, String subject, String body) {
+        OutboundMail mail = new OutboundMail(UUID.randomUUID().toString(), to, subject, body, 0,
+                System.currentTimeMillis(), null);
+        redis.opsForList().leftPush(QUEUE_KEY, toJson(mail));
+        dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.poll-interval-ms:1000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        Long retried = redis.execute(REQUEUE_DUE_SCRIPT, List.of(RETRY_KEY, QUEUE_KEY),
+                String.valueOf(now), String.valueOf(batchSize * senders * 10));
+        Long expired = redis.execute(REQUEUE_DUE_SCRIPT, List.of(INFLIGHT_KEY, QUEUE_KEY),
+                String.valueOf(now), String.valueOf(batchSize * senders * 10));
+        if (expired != null && expired > 0) {
+            log.warn("Requeued {} mails whose sender lease expired", expired);
+        }
+        if (retried != null && retried > 0) {
+            log.info("Requeued {} mails for retry", retried);
+        }
+        dispatch();
+    }
+
+    public MailQueueStats getStats() {
+        long delivered = sent.sum();
+        return new MailQueueStats(
+                size(redis.opsForList().size(QUEUE_KEY)),
+                size(redis.opsForZSet().zCard(INFLIGHT_KEY)),
+                size(redis.opsForZSet().zCard(RETRY_KEY)),
+                size(redis.opsForList().size(DEAD_KEY)),
+                delivered,
+                failedAttempts.sum(),
+                delivered == 0 ? 0 : sendNanos.sum() / 1_000_000.0 / delivered,
+                delivered == 0 ? 0 : (double) queueMillis.sum() / delivered);
+    }
+
+    // Starts this node's idle senders; each drains the queue batch by batch and then exits
+    private synchronized void dispatch() {
+        while (running.get() < senders) {
+            running.incrementAndGet();
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                List<String> claimed = claim();
+                if (claimed.isEmpty()) {
+                    return;
+                }
+                send(claimed);
+            }
+        } catch (Exception e) {
+            log.error("Mail sender stopped: {}", e.getMessage());
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claim() {
+        List<String> claimed = redis.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY, INFLIGHT_KEY),
+                String.valueOf(batchSize), String.valueOf(System.currentTimeMillis() + leaseMillis));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void send(List<String> claimed) {
+        List<OutboundMail> batch = new ArrayList<>(claimed.size());
+        List<String> raws = new ArrayList<>(claimed.size());
+        for (String raw : claimed) {
+            try {
+                batch.add(objectMapper.readValue(raw, OutboundMail.class));
+                raws.add(raw);
+            } catch (JsonProcessingException e) {
+                log.error("Dead-lettering unreadable queued mail: {}", e.getMessage());
+                deadLetter(new OutboundMail(null, null, null, null, 0, System.currentTimeMillis(),
+                        "Unreadable queued mail: " + e.getOriginalMessage()));
+                redis.opsForZSet().remove(INFLIGHT_KEY, raw);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        Map<String, Exception> failures = batchSender.send(batch);
+        long elapsed = System.nanoTime() - started;
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboundMail mail = batch.get(i);
+            Exception error = failures.get(mail.getId());
+            if (error == null) {
+                sent.increment();
+                queueMillis.add(now - mail.getEnqueuedAt());
+            } else {
+                failedAttempts.increment();
+                fail(mail, error, now);
+            }
+            redis.opsForZSet().remove(INFLIGHT_KEY, raws.get(i));
+        }
+        if (failures.size() < batch.size()) {
+            sendNanos.add(elapsed * (batch.size() - failures.size()) / batch.size());
+        }
+        log.debug("Sent {} of {} queued mails in {} ms", batch.size() - failures.size(), batch.size(),
+                elapsed / 1_000_000);
+    }
+
+    // Parked for a retry, or dead-lettered; written before the in-flight entry is removed
+    private void fail(OutboundMail mail, Exception error, long now) {
+        mail.setAttempts(mail.getAttempts() + 1);
+        mail.setLastError(error.getMessage());
+        if (isPermanent(error) || mail.getAttempts() >= maxAttempts) {
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getTo(),
+                    mail.getAttempts(), error.getMessage());
+            deadLetter(mail);
+            return;
+        }
+        long delay = retryDelayMillis(mail.getAttempts(), retryBaseMillis, retryMaxMillis);
+        log.warn("Mail {} to {} failed (attempt {}), retrying in {} ms: {}", mail.getId(), mail.getTo(),
+                mail.getAttempts(), delay, error.getMessage());
+        redis.opsForZSet().add(RETRY_KEY, toJson(mail), now + delay);
+    }
+
+    // Keeps the recipient, subject and error for inspection but drops the body
+    private void deadLetter(OutboundMail mail) {
+        mail.setBody(null);
+        redis.opsForList().leftPush(DEAD_KEY, toJson(mail));
+        redis.opsForList().trim(DEAD_KEY, 0, deadLetterMax - 1);
+    }
+
+    // Exponential backoff: base, 2 x base, 4 x base, ... capped at max
+    static long retryDelayMillis(int attempts, long baseMillis, long maxMillis) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(maxMillis, baseMillis << shift);
+    }
+
+    // Bad addresses and malformed messages will never succeed, so they skip the retries
+    static boolean isPermanent(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof MailParseException || t instanceof MailPreparationException) {
+                return true;
+            }
+            if (t instanceof SendFailedException sendFailed && sendFailed.getInvalidAddresses() != null
+                    && sendFailed.getInvalidAddresses().length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toJson(OutboundMail mail) {
+        try {
+            return objectMapper.writeValueAsString(mail);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize queued mail", e);
+        }
+    }
+
+    private static long size(Long size) {
+        return size == null ? 0 : size;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // In-flight mails that do not finish are requeued by another node once their lease expires
+        executor.shutdown();
+    }
+}
@@ -4,25 +4,29 @@ import com.nithish9020.backend.dto.OAuthRequest;
 import com.nithish9020.backend.dto.OAuthUserInfo;
 import com.nithish9020.backend.entity.User;
 import com.nithish9020.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OAuthService {
 
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final IdentityProviderClient identityProviderClient;
+    private final UserCache userCache;
+    private final ServiceMetrics metrics;
+    private final Cache<String, User> resolvedUsers;
 
     @Value("${google.oauth.client-id}")
     private String googleClientId;
@@ -33,6 +37,12 @@ public class OAuthService {
     @Value("${google.oauth.redirect-uri}")
     private String googleRedirectUri;
 
+    @Value("${google.oauth.token-uri:https://oauth2.googleapis.com/token}")
+    private String googleTokenUri;
+
+    @Value("${google.oauth.userinfo-uri:https://www.googleapis.com/oauth2/v2/userinfo}")
+    private String googleUserInfoUri;
+
     @Value("${microsoft.oauth.client-id}")
     private String microsoftClientId;
 
@@ -45,7 +55,34 @@ public class OAuthService {
     @Value("${microsoft.oauth.tenant-id}")
     private String microsoftTenantId;
 
+    @Value("${microsoft.oauth.authority:https://login.microsoftonline.com}")
+    private String microsoftAuthority;
+
+    @Value("${microsoft.oauth.graph-uri:https://graph.microsoft.com/v1.0}")
+    private String microsoftGraphUri;
+
+    public OAuthService(UserRepository userRepository, JwtService jwtService,
+            IdentityProviderClient identityProviderClient,
+            UserCache userCache,
+            ServiceMetrics metrics,
+            @Value("${app.oauth.user-cache-seconds:60}") long userCacheSeconds) {
+        this.userRepository = userRepository;
+        this.jwtService = jwtService;
+        this.identityProviderClient = identityProviderClient;
+        this.userCache = userCache;
+        this.metrics = metrics;
+        // Resolved users by provider:oauthId, so repeat logins skip the lookup
+        this.resolvedUsers = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(userCacheSeconds))
+                .build();
+    }
+
     public Map<String, Object> handleOAuthCallback(OAuthRequest request) {
+        return metrics.time("oauthCallback", () -> completeOAuthLogin(request));
+    }
+
+    private Map<String, Object> completeOAuthLogin(OAuthRequest request) {
         try {
             log.info("Handling OAuth callback for provider: {}, role: {}", request.getProvider(), request.getRole());
             log.info("Authorization code: {}",
@@ -56,61 +93,27 @@ public class OAuthService {
             log.info("OAuth user info - ID: {}, Provider: {}, Name: {}", userInfo.getId(), userInfo.getProvider(),
                     userInfo.getName());
 
-            // Check if user already exists by OAuth ID and provider first (most reliable)
-            log.info("Looking for existing user with OAuth ID: {} and provider: {}", userInfo.getId(),
-                    userInfo.getProvider());
-            Optional<User> existingUser = userRepository.findByOauthIdAndOauthProvider(userInfo.getId(),
-                    userInfo.getProvider());
-
-            if (existingUser.isPresent()) {
-                log.info("Found existing user by OAuth ID: {}", existingUser.get().getEmail());
-            } else {
-                log.info("No user found by OAuth ID, trying by email: {}", userInfo.getEmail());
-                // If not found by OAuth ID, try by email
-                existingUser = userRepository.findByEmail(userInfo.getEmail());
-                if (existingUser.isPresent()) {
-                    log.info("Found existing user by email: {}", existingUser.get().getEmail());
-                }
-            }
-
-            if (existingUser.isEmpty()) {
-                // If still not found, try to find by email with external format
-                // This handles cases where the email was stored in external format
-                String externalEmail = userInfo.getEmail().replace("@", "_")
-                        + "#EXT#@nithishkumar9020outlook.onmicrosoft.com";
-                existingUser = userRepository.findByEmail(externalEmail);
-                if (existingUser.isPresent()) {
-                    log.info("Found existing user with external email format: {}", externalEmail);
-                }
-            }
+            // Repeat logins are answered from the cache; otherwise one query covers all identity keys
+            String cacheKey = userInfo.getProvider() + ":" + userInfo.getId();
+            User cachedUser = resolvedUsers.getIfPresent(cacheKey);
+            Optional<User> existingUser = cachedUser != null ? Optional.of(copy(cachedUser))
+                    : findExistingUser(userInfo);
 
             if (existingUser.isPresent()) {
                 User user = existingUser.get();
                 log.info("Existing user found: {}", user.getEmail());
 
-                // Always update OAuth info to ensure it's current
-                user.setOauthId(userInfo.getId());
-                user.setOauthProvider(userInfo.getProvider());
-                user.setOAuthUser(true);
-                user.setEmailVerified(true);
-
-                // Check if the existing user has an external email format that needs cleaning
-                if (user.getEmail().contains("#EXT#") || user.getEmail().contains("#ext#")) {
-                    log.info("Cleaning up external email format for existing user");
-                    String[] parts = user.getEmail().split("#EXT#|#ext#");
-                    String cleanedEmail = parts[0].toLowerCase();
-                    user.setEmail(cleanedEmail);
-                    log.info("Updated user email to: {}", cleanedEmail);
-                }
-
-                // Update user name if it's different
-                if (userInfo.getName() != null && !userInfo.getName().equals(user.getName())) {
-                    user.setName(userInfo.getName());
-                    log.info("Updated user name to: {}", userInfo.getName());
+                // Write only when the OAuth info or profile actually changed
+                String previousEmail = user.getEmail();
+                if (applyOAuthProfile(user, userInfo)) {
+                    user = userRepository.save(user);
+                    userCache.evict(previousEmail);
+                    if (!previousEmail.equals(user.getEmail())) {
+                        userCache.registered(user.getEmail());
+                    }
+                    log.info("Updated existing user with OAuth info and cleaned email");
                 }
-
-                userRepository.save(user);
-                log.info("Updated existing user with OAuth info and cleaned email");
+                resolvedUsers.put(cacheKey, copy(user));
 
                 String token = jwtService.generateToken(user.getEmail());
                 return createAuthResponse("Login successful", token, user.getRole(), user.getName(), user.getEmail());
@@ -118,6 +121,7 @@ public class OAuthService {
                 // Create new user
                 log.info("Creating new OAuth user: {}", userInfo.getEmail());
                 User newUser = createOAuthUser(userInfo, request.getRole());
+                resolvedUsers.put(cacheKey, copy(newUser));
                 String token = jwtService.generateToken(newUser.getEmail());
                 return createAuthResponse("Account created successfully", token, newUser.getRole(), newUser.getName(),
                         newUser.getEmail());
@@ -145,7 +149,7 @@ public class OAuthService {
                     code.substring(0, Math.min(10, code.length())) + "...");
 
             // Exchange code for access token
-            String tokenUrl = "https://oauth2.googleapis.com/token";
+            String tokenUrl = googleTokenUri;
 
             // Build form data as URL-encoded string
             String formData = String.format(
@@ -157,35 +161,27 @@ public class OAuthService {
 
             log.info("Token request - client_id: {}, redirect_uri: {}", googleClientId, googleRedirectUri);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            HttpEntity<String> tokenEntity = new HttpEntity<>(formData, headers);
-
-            ResponseEntity<Map> tokenResponse = restTemplate.postForEntity(tokenUrl, tokenEntity, Map.class);
-            log.info("Token response status: {}", tokenResponse.getStatusCode());
+            Map<String, Object> tokenResponse = identityProviderClient.postForm(tokenUrl, formData);
 
-            if (tokenResponse.getBody() == null) {
+            if (tokenResponse == null) {
                 throw new RuntimeException("Token response body is null");
             }
 
-            String accessToken = (String) tokenResponse.getBody().get("access_token");
+            String accessToken = (String) tokenResponse.get("access_token");
             if (accessToken == null) {
-                log.error("Access token is null. Token response: {}", tokenResponse.getBody());
+                log.error("Access token is null. Token response: {}", tokenResponse);
                 throw new RuntimeException("Access token is null in response");
             }
 
             log.info("Successfully obtained access token");
 
             // Get user info
-            String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo?access_token=" + accessToken;
-            ResponseEntity<Map> userInfoResponse = restTemplate.getForEntity(userInfoUrl, Map.class);
-            log.info("User info response status: {}", userInfoResponse.getStatusCode());
+            Map<String, Object> userInfo = identityProviderClient.get(googleUserInfoUri, accessToken);
 
-            if (userInfoResponse.getBody() == null) {
+            if (userInfo == null) {
                 throw new RuntimeException("User info response body is null");
             }
 
-            Map<String, Object> userInfo = userInfoResponse.getBody();
             log.info("User info received: {}", userInfo);
 
             return OAuthUserInfo.builder()
@@ -216,7 +212,7 @@ public class OAuthService {
                     code.substring(0, Math.min(10, code.length())) + "...");
 
             // Exchange code for access token
-            String tokenUrl = "https://login.microsoftonline.com/" + microsoftTenantId + "/oauth2/v2.0/token";
+            String tokenUrl = microsoftAuthority + "/" + microsoftTenantId + "/oauth2/v2.0/token";
 
             // Build form data as URL-encoded string
             String formData = String.format(
@@ -229,41 +225,28 @@ public class OAuthService {
             log.info("Microsoft token request - client_id: {}, redirect_uri: {}, tenant_id: {}",
                     microsoftClientId, microsoftRedirectUri, microsoftTenantId);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            HttpEntity<String> tokenEntity = new HttpEntity<>(formData, headers);
-
-            ResponseEntity<Map> tokenResponse = restTemplate.postForEntity(tokenUrl, tokenEntity, Map.class);
-            log.info("Microsoft token response status: {}", tokenResponse.getStatusCode());
+            Map<String, Object> tokenResponse = identityProviderClient.postForm(tokenUrl, formData);
 
-            if (tokenResponse.getBody() == null) {
+            if (tokenResponse == null) {
                 throw new RuntimeException("Microsoft token response body is null");
             }
 
-            String accessToken = (String) tokenResponse.getBody().get("access_token");
+            String accessToken = (String) tokenResponse.get("access_token");
             if (accessToken == null) {
-                log.error("Microsoft access token is null. Token response: {}", tokenResponse.getBody());
+                log.error("Microsoft access token is null. Token response: {}", tokenResponse);
                 throw new RuntimeException("Microsoft access token is null in response");
             }
 
             log.info("Successfully obtained Microsoft access token");
 
             // Get user info with specific fields
-            String userInfoUrl = "https://graph.microsoft.com/v1.0/me?$select=id,displayName,mail,userPrincipalName,email";
-            HttpHeaders userInfoHeaders = new HttpHeaders();
-            userInfoHeaders.setBearerAuth(accessToken);
-            HttpEntity<String> userInfoEntity = new HttpEntity<>(userInfoHeaders);
+            String userInfoUrl = microsoftGraphUri + "/me?$select=id,displayName,mail,userPrincipalName,email";
+            Map<String, Object> userInfo = identityProviderClient.get(userInfoUrl, accessToken);
 
-            ResponseEntity<Map> userInfoResponse = restTemplate.exchange(userInfoUrl, HttpMethod.GET, userInfoEntity,
-                    Map.class);
-            log.info("Microsoft user info response status: {}", userInfoResponse.getStatusCode());
-            log.info("Microsoft user info response headers: {}", userInfoResponse.getHeaders());
-
-            if (userInfoResponse.getBody() == null) {
+            if (userInfo == null) {
                 throw new RuntimeException("Microsoft user info response body is null");
             }
 
-            Map<String, Object> userInfo = userInfoResponse.getBody();
             log.info("Microsoft user info received: {}", userInfo);
             log.info("Microsoft user info fields - mail: {}, userPrincipalName: {}, email: {}",
                     userInfo.get("mail"), userInfo.get("userPrincipalName"), userInfo.get("email"));
@@ -376,6 +359,63 @@ public class OAuthService {
         }
     }
 
+    // Same priority as before: OAuth id, then email, then the Microsoft external-guest email
+    private Optional<User> findExistingUser(OAuthUserInfo userInfo) {
+        String email = userInfo.getEmail();
+        // This handles cases where the email was stored in external format
+        String externalEmail = email.replace("@", "_") + "#EXT#@nithishkumar9020outlook.onmicrosoft.com";
+        List<User> candidates = userRepository.findOAuthCandidates(userInfo.getId(), userInfo.getProvider(),
+                List.of(email, externalEmail));
+
+        return candidates.stream()
+                .filter(u -> userInfo.getId() != null && userInfo.getId().equals(u.getOauthId())
+                        && userInfo.getProvider().equals(u.getOauthProvider()))
+                .findFirst()
+                .or(() -> candidates.stream().filter(u -> u.getEmail().equalsIgnoreCase(email)).findFirst())
+                .or(() -> candidates.stream().filter(u -> u.getEmail().equalsIgnoreCase(externalEmail)).findFirst());
+    }
+
+    // Brings the user in line with the provider's profile; returns whether anything changed
+    private boolean applyOAuthProfile(User user, OAuthUserInfo userInfo) {
+        boolean changed = false;
+        if (!Objects.equals(user.getOauthId(), userInfo.getId())) {
+            user.setOauthId(userInfo.getId());
+            changed = true;
+        }
+        if (!Objects.equals(user.getOauthProvider(), userInfo.getProvider())) {
+            user.setOauthProvider(userInfo.getProvider());
+            changed = true;
+        }
+        if (!user.isOAuthUser() || !user.isEmailVerified()) {
+            user.setOAuthUser(true);
+            user.setEmailVerified(true);
+            changed = true;
+        }
+
+        // Check if the existing user has an external email format that needs cleaning
+        if (user.getEmail().contains("#EXT#") || user.getEmail().contains("#ext#")) {
+            String cleanedEmail = user.getEmail().split("#EXT#|#ext#")[0].toLowerCase();
+            user.setEmail(cleanedEmail);
+            log.info("Updated user email to: {}", cleanedEmail);
+            changed = true;
+        }
+
+        // Update user name if it's different
+        if (userInfo.getName() != null && !userInfo.getName().equals(user.getName())) {
+            user.setName(userInfo.getName());
+            log.info("Updated user name to: {}", userInfo.getName());
+            changed = true;
+        }
+        return changed;
+    }
+
+    // Cached users are copied in and out so callers never mutate the cached instance
+    private static User copy(User user) {
+        return new User(user.getId(), user.getEmail(), user.getName(), user.getPasswordHash(),
+                user.isEmailVerified(), user.getCreatedAt(), user.getRole(), user.getOauthId(),
+                user.getOauthProvider(), user.isOAuthUser());
+    }
+
     private User createOAuthUser(OAuthUserInfo userInfo, String role) {
         User user = User.builder()
                 .email(userInfo.getEmail().toLowerCase())
@@ -389,7 +429,9 @@ public class OAuthService {
                 .createdAt(java.time.Instant.now())
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCache.registered(saved.getEmail());
+        return saved;
     }
 
     private Map<String, Object> createAuthResponse(String message, String token,
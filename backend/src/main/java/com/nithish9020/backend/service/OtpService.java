@@ -1,45 +1,116 @@
 // src/main/java/com/nithish9020/backend/service/OtpService.java
 package com.nithish9020.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.TempUser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.List;
 
+/**
+ * Pending signups live in one Redis hash per email ({@code signup:{email}})
+ * holding the OTP, the failed attempt count and the user payload. Starting
+ * and verifying a signup are each a single server-side script, so a code can
+ * only be consumed once even when two verifications race.
+ */
 @Service
 public class OtpService {
 
-    private final StringRedisTemplate redis;
+    public enum Outcome {
+        VERIFIED, INVALID_CODE, EXPIRED, TOO_MANY_ATTEMPTS
+    }
+
+    public record Verification(Outcome outcome, TempUser user) {
+    }
+
     private static final SecureRandom RNG = new SecureRandom();
     private static final Duration OTP_TTL = Duration.ofMinutes(10); // 10 min expiry
 
-    public OtpService(StringRedisTemplate redis) {
+    // Replaces any earlier pending signup for the email
+    private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'otp', ARGV[1], 'attempts', 0, 'user', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // Returns {outcome} or {'VERIFIED', user}; a wrong code counts against ARGV[2] attempts
+    private static final RedisScript<List> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local otp = redis.call('HGET', KEYS[1], 'otp')
+            if not otp then
+              return {'EXPIRED'}
+            end
+            if otp ~= ARGV[1] then
+              local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+              if attempts >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+                return {'TOO_MANY_ATTEMPTS'}
+              end
+              return {'INVALID_CODE'}
+            end
+            local user = redis.call('HGET', KEYS[1], 'user')
+            redis.call('DEL', KEYS[1])
+            return {'VERIFIED', user}
+            """, List.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final ServiceMetrics metrics;
+    private final int maxAttempts;
+
+    public OtpService(StringRedisTemplate redis, ObjectMapper objectMapper, ServiceMetrics metrics,
+            @Value("${app.otp.max-attempts:5}") int maxAttempts) {
         this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
     }
 
-    // Generate 6-digit OTP, store in Redis with TTL
-    public String generateOtp(String email) {
-        int code = RNG.nextInt(1_000_000);
-        String otp = String.format("%06d", code);
-        String key = redisKey(email);
-        redis.opsForValue().set(key, otp, OTP_TTL);
+    // Generate 6-digit OTP and store it with the pending user in one round-trip
+    public String startSignup(TempUser user) {
+        String otp = String.format("%06d", RNG.nextInt(1_000_000));
+        try {
+            redis.execute(START_SCRIPT, List.of(redisKey(user.getEmail())), otp,
+                    objectMapper.writeValueAsString(user), String.valueOf(OTP_TTL.toMillis()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to save pending signup to Redis", e);
+        }
         return otp;
     }
 
-    // Verify OTP: check stored value, then delete on success
-    public boolean verifyOtp(String email, String code) {
-        String key = redisKey(email);
-        String stored = redis.opsForValue().get(key);
-        if (stored == null) return false;
-        boolean ok = stored.equals(code);
-        if (ok) {
-            redis.delete(key); // one-time use
+    // Check the code and, on success, consume the pending signup and return its user
+    public Verification verifyAndConsume(String email, String code) {
+        return metrics.time("verifyOtp", verification -> verification.outcome().name().toLowerCase(),
+                () -> verify(email, code));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Verification verify(String email, String code) {
+        List<Object> result = redis.execute(VERIFY_SCRIPT, List.of(redisKey(email)),
+                code == null ? "" : code, String.valueOf(maxAttempts));
+        if (result == null || result.isEmpty()) {
+            return new Verification(Outcome.EXPIRED, null);
+        }
+
+        Outcome outcome = Outcome.valueOf((String) result.get(0));
+        if (outcome != Outcome.VERIFIED) {
+            return new Verification(outcome, null);
+        }
+        try {
+            return new Verification(outcome, objectMapper.readValue((String) result.get(1), TempUser.class));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read pending signup from Redis", e);
         }
-        return ok;
     }
 
     private String redisKey(String email) {
-        return "otp:" + email.toLowerCase();
+        return "signup:" + email.toLowerCase();
     }
 }
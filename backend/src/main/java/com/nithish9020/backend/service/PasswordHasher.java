@@ -0,0 +1,149 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.PasswordHashingStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt on a bounded pool with one worker per core, so a login flood can
+ * only use those cores and leaves the rest of the JVM (e.g. booking traffic)
+ * alone. Once {@code app.auth.hash.queue-per-core} hashes per core are
+ * waiting, further requests are shed right away with a 429 instead of
+ * queueing. New hashes use a cost that is either fixed
+ * ({@code app.auth.bcrypt.cost}) or calibrated at startup to the highest cost
+ * whose hash fits {@code app.auth.bcrypt.target-ms}. Existing hashes keep
+ * verifying at whatever cost they were made with.
+ */
+@Service
+@Slf4j
+public class PasswordHasher {
+    static final int MIN_COST = 10;
+    static final int MAX_COST = 14;
+
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final int workers;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHasher(@Value("${app.auth.bcrypt.cost:0}") int configuredCost,
+            @Value("${app.auth.bcrypt.target-ms:250}") long targetMillis,
+            @Value("${app.auth.hash.workers:0}") int configuredWorkers,
+            @Value("${app.auth.hash.queue-per-core:4}") int queuePerCore,
+            @Value("${app.auth.hash.timeout-ms:5000}") long timeoutMillis) {
+        this.cost = configuredCost > 0 ? configuredCost : calibrate(targetMillis);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.workers = configuredWorkers > 0 ? configuredWorkers : Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, workers * queuePerCore)),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("BCrypt cost {} on {} hashing workers", cost, workers);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public PasswordHashingStats getStats() {
+        long done = completed.sum();
+        return new PasswordHashingStats(cost, workers, executor.getQueue().size(), done, rejected.sum(),
+                timedOut.sum(), done == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / done,
+                maxHashNanos.get() / 1_000_000);
+    }
+
+    private <T> T run(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hash.call();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    completed.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Server is busy. Please try again shortly.", 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new TooManyRequestsException("Server is busy. Please try again shortly.", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // Highest cost whose hash takes at most targetMillis on this machine (each step doubles the work)
+    static int calibrate(long targetMillis) {
+        int chosen = MIN_COST;
+        for (int candidate = MIN_COST; candidate <= MAX_COST; candidate++) {
+            BCryptPasswordEncoder probe = new BCryptPasswordEncoder(candidate);
+            probe.encode("calibration"); // warm-up
+            long started = System.nanoTime();
+            probe.encode("calibration");
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            if (millis > targetMillis) {
+                break;
+            }
+            chosen = candidate;
+            if (millis * 2 > targetMillis) {
+                break; // the next cost would take about twice as long
+            }
+        }
+        return chosen;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Timers for the hot service methods, published as {@code app.service} with
+ * {@code method}, {@code outcome} and {@code exception} tags. Percentiles and
+ * histogram buckets are configured under {@code management.metrics.distribution}.
+ * Tags only ever hold method names, outcomes and exception class names, never
+ * emails or ids, so the series count stays fixed however many users there are.
+ */
+@Component
+public class ServiceMetrics {
+    public static final String SERVICE_TIMER = "app.service";
+
+    private final MeterRegistry registry;
+    private final Counter excelRows;
+    private final DistributionSummary excelRowsPerSecond;
+
+    public ServiceMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.excelRows = Counter.builder("app.excel.rows")
+                .description("Rows read from uploaded candidate workbooks")
+                .register(registry);
+        this.excelRowsPerSecond = DistributionSummary.builder("app.excel.rows.per.second")
+                .description("Parse rate of each uploaded candidate workbook")
+                .register(registry);
+    }
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    // Times the call; outcome is "success", or "error" with the exception's class name
+    public <T, E extends Exception> T time(String method, Call<T, E> call) throws E {
+        return time(method, result -> "success", call);
+    }
+
+    // Same, with the outcome of a normal return derived from the result (e.g. "conflict")
+    public <T, E extends Exception> T time(String method, Function<T, String> outcome, Call<T, E> call) throws E {
+        long started = System.nanoTime();
+        String result = "error";
+        String exception = "none";
+        try {
+            T value = call.call();
+            result = outcome.apply(value);
+            return value;
+        } catch (Exception | Error e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(SERVICE_TIMER)
+                    .description("Latency of hot service methods")
+                    .tag("method", method)
+                    .tag("outcome", result)
+                    .tag("exception", exception)
+                    .register(registry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordExcelImport(ExcelImportSummary summary) {
+        excelRows.increment(summary.getRowsRead());
+        excelRowsPerSecond.record(summary.getRowsPerSecond());
+    }
+}
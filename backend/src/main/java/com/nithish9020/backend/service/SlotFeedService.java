@@ -0,0 +1,238 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.SlotDelta;
+import com.nithish9020.backend.dto.SlotDelta.Change;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live slot availability per interview over server-sent events.
+ * Bookings, cancellations and holds are published on the Redis channel
+ * {@code slots:{interviewId}}. Each node subscribes to {@code slots:*} and
+ * fans out to its own clients. Changes are buffered per interview and flushed
+ * every {@code app.slots.stream.flush-ms} as one batch, so a burst of
+ * bookings costs each client a single write. Idle streams are async requests
+ * and hold no request thread.
+ * <p>
+ * Writes to a client go through its own queue of at most
+ * {@code app.slots.stream.queue-size} events, drained on a small sender pool.
+ * A client whose queue is full has stopped reading and is dropped, so one
+ * stalled connection never delays the others. Browsers open the stream with
+ * an {@code EventSource}, which cannot send headers, so it is authenticated by
+ * a short-lived stream token in the query string (see
+ * {@link JwtService#generateStreamToken}).
+ */
+@Service
+@Slf4j
+public class SlotFeedService implements MessageListener {
+    static final String CHANNEL_PREFIX = "slots:";
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long flushMillis;
+    private final long heartbeatMillis;
+    private final int queueSize;
+
+    private final Map<String, Set<Subscriber>> clients = new ConcurrentHashMap<>();
+    // interviewId -> "date time" -> latest change in the current flush window
+    private final Map<String, Map<String, SlotDelta>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService senders;
+    private final LongAdder dropped = new LongAdder();
+
+    public SlotFeedService(StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            BlockingExecutors blockingExecutors,
+            @Value("${app.slots.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.slots.stream.flush-ms:250}") long flushMillis,
+            @Value("${app.slots.stream.heartbeat-ms:25000}") long heartbeatMillis,
+            @Value("${app.slots.stream.senders:4}") int senderThreads,
+            @Value("${app.slots.stream.queue-size:32}") int queueSize) {
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.flushMillis = flushMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.queueSize = queueSize;
+        this.senders = blockingExecutors.newExecutor("slot-feed", senderThreads);
+    }
+
+    @PostConstruct
+    void start() {
+        listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+        flusher.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String interviewId) {
+        return subscribe(interviewId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String interviewId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(interviewId, emitter, new ArrayBlockingQueue<>(queueSize));
+        clients.computeIfAbsent(interviewId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    // Called after a booking, cancellation or hold has been written; holds that lapse are not announced
+    public void publish(String interviewId, String date, String time, Change change) {
+        try {
+            String json = objectMapper.writeValueAsString(new SlotDelta(interviewId, date, time, change));
+            redis.convertAndSend(CHANNEL_PREFIX + interviewId, json);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // Clients still see the change on their next full fetch
+            log.warn("Failed to publish slot change for interview {}: {}", interviewId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SlotDelta delta;
+        try {
+            delta = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), SlotDelta.class);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable slot change: {}", e.getMessage());
+            return;
+        }
+        if (!clients.containsKey(delta.getInterviewId())) {
+            return; // nobody on this node is watching
+        }
+        // Atomic per interview, so a flush takes either the whole window or none of it
+        pending.compute(delta.getInterviewId(), (id, deltas) -> {
+            Map<String, SlotDelta> window = deltas == null ? new LinkedHashMap<>() : deltas;
+            String slot = delta.getDate() + " " + delta.getTime();
+            window.remove(slot); // the latest change moves to the end
+            window.put(slot, delta);
+            return window;
+        });
+    }
+
+    public int getConnectionCount() {
+        return clients.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Clients dropped because their queue filled up
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    void flush() {
+        for (String interviewId : List.copyOf(pending.keySet())) {
+            Map<String, SlotDelta> window = pending.remove(interviewId);
+            Set<Subscriber> subscribers = clients.get(interviewId);
+            if (window == null || window.isEmpty() || subscribers == null) {
+                continue;
+            }
+            List<SlotDelta> deltas = new ArrayList<>(window.values());
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().name("slots").data(deltas, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    // Comment lines keep proxies from closing idle streams and reveal dead clients
+    void heartbeat() {
+        clients.values().forEach(subscribers -> subscribers.forEach(
+                subscriber -> enqueue(subscriber, SseEmitter.event().comment("keep-alive"))));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue().offer(event)) {
+            log.info("Dropping a slot stream of interview {} that stopped reading", subscriber.interviewId());
+            dropped.increment();
+            unsubscribe(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    // At most one sender drains a client at a time, which keeps its events in order
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining().set(false); // shutting down
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = subscriber.queue().poll()) != null) {
+            try {
+                subscriber.emitter().send(event);
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+                subscriber.queue().clear();
+            }
+        }
+        subscriber.draining().set(false);
+        // An event queued after the last poll but before the flag was cleared would otherwise wait
+        if (!subscriber.queue().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        clients.computeIfPresent(subscriber.interviewId(), (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        senders.shutdownNow();
+        clients.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter().complete()));
+    }
+
+    private record Subscriber(String interviewId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue,
+            AtomicBoolean draining) {
+        Subscriber(String interviewId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this(interviewId, emitter, queue, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.nithish9020.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Short leases on slots, taken in Redis while a candidate confirms their
+ * choice. A slot's lease key is set only if no other candidate holds it, and
+ * a candidate holds at most one slot per interview: taking another lets the
+ * previous one go. Leases expire after {@code app.slots.hold.ttl-seconds},
+ * which frees the slot without any cleanup. Live leases are also kept in one
+ * sorted set scored by expiry, so the availability views can hide held slots
+ * with a single read; that read is reused for {@code app.slots.hold.refresh-ms}.
+ * The scripts touch the previous lease's key without declaring it, which is
+ * fine on a single Redis node but not on a cluster.
+ */
+@Service
+@Slf4j
+public class SlotHoldService {
+    static final String SLOT_PREFIX = "holds:slot:";
+    static final String CANDIDATE_PREFIX = "holds:candidate:";
+    static final String ACTIVE = "holds:active";
+
+    // Leases the slot unless another candidate holds it; returns false if they do, otherwise the
+    // candidate's previous slot in the interview if it was let go, or an empty string
+    private static final RedisScript<String> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            local holder = redis.call('GET', KEYS[1])
+            if holder and holder ~= ARGV[1] then
+              return false
+            end
+            local replaced = ''
+            local previous = redis.call('GET', KEYS[2])
+            if previous and previous ~= ARGV[2] and redis.call('GET', ARGV[5] .. previous) == ARGV[1] then
+              redis.call('DEL', ARGV[5] .. previous)
+              redis.call('ZREM', KEYS[3], previous)
+              replaced = previous
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[3], tonumber(ARGV[4]) + tonumber(ARGV[3]), ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[4])
+            return replaced
+            """, String.class);
+
+    // Drops the candidate's lease in the interview; returns its slot, or false if there was none
+    private static final RedisScript<String> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local member = redis.call('GET', KEYS[1])
+            if not member then
+              return false
+            end
+            redis.call('DEL', KEYS[1])
+            if redis.call('GET', ARGV[2] .. member) ~= ARGV[1] then
+              return false
+            end
+            redis.call('DEL', ARGV[2] .. member)
+            redis.call('ZREM', KEYS[2], member)
+            return member
+            """, String.class);
+
+    // Extends the candidate's live lease so it outlasts the booking write, moving its expiry in the
+    // sorted set along with the keys; returns its slot, or false
+    private static final RedisScript<String> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            local member = redis.call('GET', KEYS[1])
+            if not member or redis.call('GET', ARGV[3] .. member) ~= ARGV[1] then
+              return false
+            end
+            if redis.call('PTTL', ARGV[3] .. member) < tonumber(ARGV[2]) then
+              redis.call('PEXPIRE', ARGV[3] .. member, ARGV[2])
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              redis.call('ZADD', KEYS[2], 'XX', tonumber(ARGV[4]) + tonumber(ARGV[2]), member)
+            end
+            return member
+            """, String.class);
+
+    public record HeldSlot(String interviewId, String date, String time) {
+    }
+
+    // placed is false when another candidate holds the slot; replaced is the candidate's let-go slot
+    public record HoldOutcome(boolean placed, long expiresAt, HeldSlot replaced) {
+    }
+
+    private final StringRedisTemplate redis;
+    private final long ttlMillis;
+    private final long confirmMillis;
+    private final long refreshMillis;
+
+    // interviewId -> date -> held times, as last read from the sorted set
+    private volatile Active active = new Active(0, Map.of());
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public SlotHoldService(StringRedisTemplate redis,
+            @Value("${app.slots.hold.ttl-seconds:120}") long ttlSeconds,
+            @Value("${app.slots.hold.confirm-ms:10000}") long confirmMillis,
+            @Value("${app.slots.hold.refresh-ms:500}") long refreshMillis) {
+        this.redis = redis;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.confirmMillis = confirmMillis;
+        this.refreshMillis = refreshMillis;
+    }
+
+    public HoldOutcome hold(String interviewId, String date, String time, String email) {
+        String member = member(interviewId, date, time);
+        long now = System.currentTimeMillis();
+        String replaced = redis.execute(HOLD_SCRIPT,
+                List.of(SLOT_PREFIX + member, candidateKey(interviewId, email), ACTIVE),
+                email, member, String.valueOf(ttlMillis), String.valueOf(now), SLOT_PREFIX);
+        if (replaced == null) {
+            return new HoldOutcome(false, 0, null);
+        }
+        forget();
+        return new HoldOutcome(true, now + ttlMillis, replaced.isEmpty() ? null : parse(replaced));
+    }
+
+    // The candidate's slot while their lease is live, kept for at least app.slots.hold.confirm-ms more
+    public HeldSlot extend(String interviewId, String email) {
+        String member = redis.execute(EXTEND_SCRIPT, List.of(candidateKey(interviewId, email), ACTIVE),
+                email, String.valueOf(confirmMillis), SLOT_PREFIX, String.valueOf(System.currentTimeMillis()));
+        return member == null ? null : parse(member);
+    }
+
+    // The slot that was let go, or null if the candidate held nothing in the interview
+    public HeldSlot release(String interviewId, String email) {
+        String member = redis.execute(RELEASE_SCRIPT, List.of(candidateKey(interviewId, email), ACTIVE),
+                email, SLOT_PREFIX);
+        forget();
+        return member == null ? null : parse(member);
+    }
+
+    // Direct bookings must not take a slot someone else is confirming; unknown when Redis is down, so false
+    public boolean isHeldByOther(String interviewId, String date, String time, String email) {
+        try {
+            String holder = redis.opsForValue().get(SLOT_PREFIX + member(interviewId, date, time));
+            return holder != null && !holder.equals(email);
+        } catch (DataAccessException e) {
+            log.warn("Slot holds unavailable, not checking {} {} in interview {}: {}", date, time, interviewId,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    // date -> held times for one interview; empty when nothing is held or Redis is down
+    public Map<String, Set<String>> heldSlots(String interviewId) {
+        return activeHolds().getOrDefault(interviewId, Map.of());
+    }
+
+    // interviewId -> date -> held times across all interviews
+    public Map<String, Map<String, Set<String>>> activeHolds() {
+        Active current = active;
+        long now = System.currentTimeMillis();
+        if (now - current.loadedAt() < refreshMillis) {
+            return current.holds();
+        }
+        // Single flight without pinning a virtual thread on the Redis read: one caller reloads
+        // and the others keep serving the previous snapshot meanwhile
+        if (!refreshLock.tryLock()) {
+            return current.holds();
+        }
+        try {
+            if (active != current) {
+                return active.holds();
+            }
+            active = new Active(now, load(now));
+            return active.holds();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<String, Map<String, Set<String>>> load(long now) {
+        Set<String> members;
+        try {
+            members = redis.opsForZSet().rangeByScore(ACTIVE, now, Double.POSITIVE_INFINITY);
+        } catch (DataAccessException e) {
+            log.warn("Slot holds unavailable, showing held slots as free: {}", e.getMessage());
+            return Map.of();
+        }
+        if (members == null || members.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<String, Set<String>>> holds = new HashMap<>();
+        for (String member : members) {
+            HeldSlot slot = parse(member);
+            holds.computeIfAbsent(slot.interviewId(), id -> new HashMap<>())
+                    .computeIfAbsent(slot.date(), date -> new TreeSet<>())
+                    .add(slot.time());
+        }
+        return holds;
+    }
+
+    // This node's own changes show up on its next reload; the snapshot is served until then
+    private void forget() {
+        active = new Active(0, active.holds());
+    }
+
+    private static String candidateKey(String interviewId, String email) {
+        return CANDIDATE_PREFIX + interviewId + ":" + email;
+    }
+
+    // Members are "interviewId:date:HH:mm"; neither the id nor the date contains a colon
+    static String member(String interviewId, String date, String time) {
+        return interviewId + ":" + date + ":" + time;
+    }
+
+    private static HeldSlot parse(String member) {
+        String[] parts = member.split(":", 3);
+        return new HeldSlot(parts[0], parts[1], parts[2]);
+    }
+
+    private record Active(long loadedAt, Map<String, Map<String, Set<String>>> holds) {
+    }
+}
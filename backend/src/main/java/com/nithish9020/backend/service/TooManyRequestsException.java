@@ -0,0 +1,14 @@
+package com.nithish9020.backend.service;
+
+import lombok.Getter;
+
+// Thrown when a request is shed (rate limit hit or hashing pool saturated); answered with 429
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
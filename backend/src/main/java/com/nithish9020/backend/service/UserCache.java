@@ -0,0 +1,307 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nithish9020.backend.dto.UserCacheStats;
+import com.nithish9020.backend.entity.User;
+import com.nithish9020.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Users by email: a local Caffeine cache, then Redis ({@code user:{email}}),
+ * then MySQL. In front of these, a Bloom filter of every registered email
+ * answers "not registered", so floods of signup checks and logins for
+ * unknown emails never reach the database. The filter is built from MySQL at
+ * startup and rebuilt periodically. Until the first build is done every
+ * lookup goes through. Writers call {@link #registered} or {@link #evict}.
+ * The change is broadcast on {@code users:changed} so other nodes update
+ * their filter and local cache. Pub/sub can drop messages, so registrations
+ * are also kept in {@code users:recent} for two rebuild intervals, and a
+ * filter negative is confirmed there before it is trusted.
+ * <p>
+ * Password hashes stay on this node: Redis holds users without them. Only
+ * {@link #findForLogin} guarantees the hash is present.
+ */
+@Component
+@Slf4j
+public class UserCache implements MessageListener {
+    static final String CHANNEL = "users:changed";
+    private static final String ADDED = "added:";
+    private static final String EVICTED = "evicted:";
+    private static final String RECENT = "users:recent";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final int rebuildPageSize;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final long recentRetentionMs;
+    // JSON, so every caller gets its own copy of the user
+    private final Cache<String, String> local;
+    private volatile EmailBloomFilter registeredEmails;
+    private volatile boolean bloomReady;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder databaseLoads = new LongAdder();
+    private final LongAdder bloomNegatives = new LongAdder();
+
+    public UserCache(UserRepository userRepository,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${app.users.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.users.cache.local-ttl-seconds:30}") long localTtlSeconds,
+            @Value("${app.users.cache.local-max-size:50000}") long localMaxSize,
+            @Value("${app.users.bloom.expected-users:1000000}") long expectedUsers,
+            @Value("${app.users.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.users.bloom.rebuild-page-size:5000}") int rebuildPageSize,
+            @Value("${app.users.bloom.rebuild-interval-ms:3600000}") long rebuildIntervalMs) {
+        this.userRepository = userRepository;
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.rebuildPageSize = rebuildPageSize;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentRetentionMs = 2 * rebuildIntervalMs;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.registeredEmails = new EmailBloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread rebuild = new Thread(this::rebuildBloomFilter, "user-bloom-rebuild");
+        rebuild.setDaemon(true);
+        rebuild.start();
+    }
+
+    // The returned user may come without its password hash
+    public Optional<User> findByEmail(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        if (!mightBeRegistered(key)) {
+            return Optional.empty();
+        }
+
+        String json = local.getIfPresent(key);
+        if (json != null) {
+            localHits.increment();
+            return Optional.of(fromJson(json));
+        }
+
+        try {
+            json = redis.opsForValue().get(redisKey(key));
+        } catch (DataAccessException e) {
+            log.warn("User cache read failed, loading from the database: {}", e.getMessage());
+        }
+        if (json != null) {
+            redisHits.increment();
+            local.put(key, json);
+            return Optional.of(fromJson(json));
+        }
+
+        return load(email, key);
+    }
+
+    // For password checks: the local copy if it has the hash, otherwise the database
+    public Optional<User> findForLogin(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        if (!mightBeRegistered(key)) {
+            return Optional.empty();
+        }
+
+        String json = local.getIfPresent(key);
+        if (json != null) {
+            User user = fromJson(json);
+            if (user.getPasswordHash() != null) {
+                localHits.increment();
+                return Optional.of(user);
+            }
+        }
+        return load(email, key);
+    }
+
+    // A user was created: add it to every node's filter and drop anything cached under the email
+    public void registered(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        registeredEmails.add(key);
+        try {
+            redis.opsForZSet().add(RECENT, key, System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("Failed to record new user, other nodes learn of it by broadcast or rebuild: {}",
+                    e.getMessage());
+        }
+        dropCached(key);
+        publish(ADDED + key);
+    }
+
+    // A user was changed: drop the cached copies everywhere
+    public void evict(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        dropCached(key);
+        publish(EVICTED + key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(ADDED)) {
+            String key = body.substring(ADDED.length());
+            registeredEmails.add(key);
+            local.invalidate(key);
+        } else if (body.startsWith(EVICTED)) {
+            local.invalidate(body.substring(EVICTED.length()));
+        }
+    }
+
+    public UserCacheStats getStats() {
+        return new UserCacheStats(localHits.sum(), redisHits.sum(), databaseLoads.sum(), bloomNegatives.sum(),
+                bloomReady);
+    }
+
+    // Catches up on anything the broadcasts missed; users:recent covers registrations made meanwhile
+    @Scheduled(fixedDelayString = "${app.users.bloom.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.users.bloom.rebuild-interval-ms:3600000}")
+    public void rebuildPeriodically() {
+        try {
+            redis.opsForZSet().removeRangeByScore(RECENT, 0, System.currentTimeMillis() - recentRetentionMs);
+        } catch (DataAccessException e) {
+            log.warn("Failed to trim recent registrations: {}", e.getMessage());
+        }
+        rebuildBloomFilter();
+    }
+
+    void rebuildBloomFilter() {
+        try {
+            long started = System.currentTimeMillis();
+            long count = 0;
+            EmailBloomFilter rebuilt = new EmailBloomFilter(expectedUsers, falsePositiveRate);
+            Slice<String> page = userRepository.findAllEmails(PageRequest.of(0, rebuildPageSize));
+            while (true) {
+                for (String email : page.getContent()) {
+                    rebuilt.add(email.toLowerCase(Locale.ROOT));
+                }
+                count += page.getNumberOfElements();
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = userRepository.findAllEmails(page.nextPageable());
+            }
+            registeredEmails = rebuilt;
+            bloomReady = true;
+            log.info("Registered-email filter built from {} users in {} ms", count,
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // Lookups keep going to the cache and database; only the shortcut is lost
+            log.error("Failed to build the registered-email filter: {}", e.getMessage());
+        }
+    }
+
+    // A filter negative is trusted unless users:recent says the email was registered since the last build
+    private boolean mightBeRegistered(String key) {
+        if (!bloomReady || registeredEmails.mightContain(key)) {
+            return true;
+        }
+        try {
+            if (redis.opsForZSet().score(RECENT, key) == null) {
+                bloomNegatives.increment();
+                return false;
+            }
+            registeredEmails.add(key);
+        } catch (DataAccessException e) {
+            log.warn("Recent registrations unavailable, checking the database: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private Optional<User> load(String email, String key) {
+        databaseLoads.increment();
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(found -> store(key, found));
+        return user;
+    }
+
+    // The local tier keeps the full user; Redis gets it without the password hash
+    private void store(String key, User user) {
+        local.put(key, toJson(user));
+        try {
+            ObjectNode shared = objectMapper.valueToTree(user);
+            shared.remove("passwordHash");
+            redis.opsForValue().set(redisKey(key), shared.toString(), ttl);
+        } catch (DataAccessException e) {
+            log.warn("User cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private void dropCached(String key) {
+        local.invalidate(key);
+        try {
+            redis.delete(redisKey(key));
+        } catch (DataAccessException e) {
+            log.warn("User cache eviction failed, the Redis copy expires by TTL: {}", e.getMessage());
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redis.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast user change: {}", e.getMessage());
+        }
+    }
+
+    private String toJson(User user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize user for the cache", e);
+        }
+    }
+
+    private User fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, User.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read cached user", e);
+        }
+    }
+
+    private static String redisKey(String email) {
+        return "user:" + email;
+    }
+}
@@ -15,14 +15,17 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
-    public UserService(UserRepository repo, PasswordEncoder encoder) {
+    public UserService(UserRepository repo, PasswordEncoder encoder, UserCache userCache) {
         this.userRepository = repo;
         this.passwordEncoder = encoder;
+        this.userCache = userCache;
     }
 
+    // Served from the user cache; unknown emails are usually answered by its filter alone
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userCache.findByEmail(email);
     }
 
     // Create user with hashed password and emailVerified=false
@@ -35,19 +38,22 @@ public class UserService {
                 .createdAt(Instant.now())
                 .role(role)
                 .build();
-        return userRepository.save(u);
+        User saved = userRepository.save(u);
+        userCache.registered(saved.getEmail());
+        return saved;
     }
 
     public void markVerified(String email) {
         userRepository.findByEmail(email).ifPresent(u -> {
             u.setEmailVerified(true);
             userRepository.save(u);
+            userCache.evict(u.getEmail());
         });
     }
 
     // Authenticate with email + password (used for login)
     public boolean authenticate(String email, String rawPassword) {
-        return userRepository.findByEmail(email)
+        return userCache.findForLogin(email)
                 .map(u -> passwordEncoder.matches(rawPassword, u.getPasswordHash()))
                 .orElse(false);
     }
@@ -0,0 +1,142 @@
+package com.nithish9020.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+    private final JwtService jwtService = new JwtService("test-secret-test-secret-test-secret-test-secret", 60, 100, 60);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, new ObjectMapper());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenBecomesThePrincipal() throws Exception {
+        MockHttpServletRequest request = request("Bearer " + jwtService.generateToken("a@x.com"));
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(seen.get());
+        assertEquals("a@x.com", seen.get().getPrincipal());
+        assertTrue(seen.get().isAuthenticated());
+    }
+
+    @Test
+    void invalidTokenIsRejectedBeforeTheController() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("Bearer not-a-token"), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Invalid or expired token"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void requestsWithoutATokenPassThroughUnauthenticated() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(null), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void streamTokensOpenOnlyTheirOwnInterviewsStream() throws Exception {
+        String token = jwtService.generateStreamToken("a@x.com", "i1");
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        };
+
+        filter.doFilter(stream("i1", token), new MockHttpServletResponse(), chain);
+        assertEquals("a@x.com", seen.get().getPrincipal());
+
+        MockHttpServletResponse otherInterview = new MockHttpServletResponse();
+        filter.doFilter(stream("i2", token), otherInterview, new MockFilterChain());
+        assertEquals(401, otherInterview.getStatus());
+    }
+
+    @Test
+    void streamAndSessionTokensAreNotInterchangeable() throws Exception {
+        MockHttpServletResponse streamAsBearer = new MockHttpServletResponse();
+        filter.doFilter(request("Bearer " + jwtService.generateStreamToken("a@x.com", "i1")), streamAsBearer,
+                new MockFilterChain());
+        assertEquals(401, streamAsBearer.getStatus());
+
+        MockHttpServletResponse sessionInUrl = new MockHttpServletResponse();
+        filter.doFilter(stream("i1", jwtService.generateToken("a@x.com")), sessionInUrl, new MockFilterChain());
+        assertEquals(401, sessionInUrl.getStatus());
+
+        // Elsewhere a token parameter means nothing
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest available = request(null);
+        available.setParameter("token", jwtService.generateStreamToken("a@x.com", "i1"));
+        filter.doFilter(available, new MockHttpServletResponse(), chain);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void onlyTheStreamsQueryStringIsRead() throws Exception {
+        String token = jwtService.generateStreamToken("a@x.com", "i1");
+        MockHttpServletRequest upload = new MockHttpServletRequest("POST", "/api/interviews/upload") {
+            @Override
+            public String getParameter(String name) {
+                throw new AssertionError("request parameters parsed for " + name);
+            }
+        };
+        upload.setQueryString("token=" + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(upload, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // A token posted in the body is not a query parameter
+        MockHttpServletRequest posted = new MockHttpServletRequest("GET", "/api/interviews/i1/slots/stream");
+        posted.setParameter("token", token);
+        MockFilterChain postedChain = new MockFilterChain();
+        filter.doFilter(posted, new MockHttpServletResponse(), postedChain);
+        assertNotNull(postedChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest stream(String interviewId, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/api/interviews/" + interviewId + "/slots/stream");
+        request.setQueryString("lastEventId=0&token=" + token);
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/interviews/available");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nithish9020.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadingModeTest {
+
+    @Test
+    void platformIsTheDefault() {
+        GenericApplicationContext context = initialize(Map.of());
+
+        assertEquals("platform", context.getEnvironment().getProperty(ThreadingMode.PROPERTY));
+        assertEquals("false", context.getEnvironment().getProperty("spring.threads.virtual.enabled"));
+    }
+
+    @Test
+    void virtualModeEnablesVirtualThreadsOnlyWhereSupported() {
+        GenericApplicationContext context = initialize(Map.of(ThreadingMode.PROPERTY, "virtual"));
+
+        boolean supported = ThreadingMode.virtualThreadsSupported();
+        assertEquals(String.valueOf(supported), context.getEnvironment().getProperty("spring.threads.virtual.enabled"));
+        assertEquals(supported, new BlockingExecutors(true).isVirtual());
+    }
+
+    private static GenericApplicationContext initialize(Map<String, Object> properties) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        new ThreadingMode.Initializer().initialize(context);
+        return context;
+    }
+}
@@ -0,0 +1,78 @@
+package com.nithish9020.backend.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotGridTest {
+
+    @Test
+    void freeSlotsComeOutInDateAndTimeOrder() {
+        Map<String, Map<String, String>> timeSlots = new HashMap<>();
+        timeSlots.put("2025-01-07", slots("14:00", null, "09:00", "b@x.com"));
+        timeSlots.put("2025-01-06", slots("10:30", null, "09:00", null, "16:00", "a@x.com"));
+        timeSlots.put("2025-01-08", slots("09:00", "c@x.com"));
+
+        SlotGrid grid = SlotGrid.of(timeSlots);
+
+        assertEquals(6, grid.totalSlots());
+        assertEquals(3, grid.openSlots());
+        assertEquals(List.of("2025-01-06", "2025-01-07"), List.copyOf(grid.availableSlots().keySet()));
+        assertEquals(List.of("09:00", "10:30"), grid.availableSlots().get("2025-01-06"));
+        assertEquals(List.of("14:00"), grid.availableSlots().get("2025-01-07"));
+        assertEquals("a@x.com", grid.bookedBy("2025-01-06", "16:00"));
+        assertTrue(grid.contains("2025-01-06", "10:30"));
+        assertFalse(grid.contains("2025-01-06", "11:00"));
+        assertNull(grid.bookedBy("2025-01-09", "09:00"));
+        assertEquals(timeSlots, grid.toMap());
+    }
+
+    @Test
+    void daysLongerThanOneBitsetWordAreCounted() {
+        Map<String, String> day = new LinkedHashMap<>();
+        for (int minute = 0; minute < 100 * 5; minute += 5) {
+            day.put(String.format("%02d:%02d", minute / 60, minute % 60), minute % 10 == 0 ? "a@x.com" : null);
+        }
+
+        SlotGrid grid = SlotGrid.of(Map.of("2025-01-06", day));
+
+        assertEquals(50, grid.openSlots());
+        assertEquals(50, grid.availableSlots().get("2025-01-06").size());
+        assertEquals("08:15", grid.availableSlots().get("2025-01-06").get(49));
+    }
+
+    @Test
+    void newInterviewsStartFreeAndRejectNonCanonicalTimes() {
+        SlotGrid grid = SlotGrid.allFree(Map.of("2025-01-06", slots("09:00", "ignored@x.com")));
+
+        assertTrue(grid.hasOpenSlots());
+        assertNull(grid.bookedBy("2025-01-06", "09:00"));
+        assertThrows(IllegalArgumentException.class, () -> SlotGrid.allFree(Map.of("2025-01-06", slots("9:00", null))));
+        assertFalse(SlotGrid.of(null).hasOpenSlots());
+    }
+
+    @Test
+    void jsonKeepsTheNestedMapShape() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SlotGrid grid = SlotGrid.of(Map.of("2025-01-06", slots("09:00", null, "09:30", "a@x.com")));
+
+        String json = objectMapper.writeValueAsString(grid);
+
+        assertEquals("{\"2025-01-06\":{\"09:00\":null,\"09:30\":\"a@x.com\"}}", json);
+        assertEquals(grid, objectMapper.readValue(json, SlotGrid.class));
+    }
+
+    private static Map<String, String> slots(String... timesAndApplicants) {
+        Map<String, String> slots = new HashMap<>();
+        for (int i = 0; i < timesAndApplicants.length; i += 2) {
+            slots.put(timesAndApplicants[i], timesAndApplicants[i + 1]);
+        }
+        return slots;
+    }
+}
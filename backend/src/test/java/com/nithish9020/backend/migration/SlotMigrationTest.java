@@ -0,0 +1,73 @@
+package com.nithish9020.backend.migration;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.repository.InMemoryMongo;
+import com.nithish9020.backend.repository.SlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotMigrationTest {
+    private static final String DAY = "2025-01-06";
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final SlotRepository slots = mongo.repository(SlotRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void copiesEveryInterviewsSlotsAcrossBatchesAndFlagsThem() {
+        for (int i = 0; i < 5; i++) {
+            saveInterview("i" + i, i % 2 == 0 ? "c" + i + "@x.com" : null);
+        }
+
+        new SlotMigration(mongo.template(), slots, 2).run(null);
+
+        assertEquals(10, slots.count());
+        assertEquals("c0@x.com", slot("i0", "09:00").getBookedBy());
+        assertNull(slot("i1", "09:00").getBookedBy());
+        assertNull(slot("i4", "10:00").getBookedBy());
+        assertTrue(mongo.template().findAll(Interview.class).stream()
+                .allMatch(interview -> Boolean.TRUE.equals(interview.getSlotsNormalized())));
+    }
+
+    @Test
+    void aSecondRunOnlyPicksUpInterviewsAddedSinceAndKeepsNewerBookings() {
+        saveInterview("i0", null);
+        SlotMigration migration = new SlotMigration(mongo.template(), slots, 200);
+        migration.run(null);
+        slots.claim("i0", DAY, "09:00", "late@x.com");
+
+        saveInterview("i1", null);
+        migration.run(null);
+
+        assertEquals(4, slots.count());
+        assertEquals("late@x.com", slot("i0", "09:00").getBookedBy());
+        assertNotNull(slot("i1", "10:00"));
+    }
+
+    private void saveInterview(String id, String bookedAtNine) {
+        Map<String, String> day = new HashMap<>();
+        day.put("09:00", bookedAtNine);
+        day.put("10:00", null);
+        Interview interview = new Interview();
+        interview.setId(id);
+        interview.setInterviewName("Interview " + id);
+        interview.setTimeSlots(SlotGrid.of(Map.of(DAY, day)));
+        mongo.template().insert(interview);
+    }
+
+    private Slot slot(String interviewId, String time) {
+        return slots.findByInterviewIdAndDateAndTime(interviewId, DAY, time).orElseThrow();
+    }
+}
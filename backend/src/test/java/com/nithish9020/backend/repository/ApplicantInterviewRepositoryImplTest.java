@@ -0,0 +1,90 @@
+package com.nithish9020.backend.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CandidateRegistrationResult;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApplicantInterviewRepositoryImplTest {
+
+    @Test
+    void registersCandidatesInChunksAndReportsFailedChunks() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations ok = mock(BulkOperations.class);
+        BulkOperations partial = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, ApplicantInterview.class)).thenReturn(ok, partial, ok);
+
+        // Chunks of 4: the first and last succeed, the second loses one write
+        when(ok.execute()).thenReturn(
+                BulkWriteResult.acknowledged(0, 1, 0, 1, upserts(3), List.of()),
+                BulkWriteResult.acknowledged(0, 0, 0, 0, upserts(2), List.of()));
+        when(partial.execute()).thenThrow(new BulkOperationException("partial",
+                new MongoBulkWriteException(
+                        BulkWriteResult.acknowledged(0, 2, 0, 2, upserts(1), List.of()),
+                        List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 3)),
+                        null, new ServerAddress(), Set.of())));
+
+        List<CandidateDto> candidates = IntStream.range(0, 10).mapToObj(i -> {
+            CandidateDto candidate = new CandidateDto();
+            candidate.setEmail("candidate" + i + "@x.com");
+            candidate.setName("Candidate " + i);
+            return candidate;
+        }).toList();
+
+        CandidateRegistrationResult result = new ApplicantInterviewRepositoryImpl(mongoTemplate)
+                .addInterviewIdToAll(new ArrayList<>(candidates), "interview-1", 4);
+
+        verify(mongoTemplate, times(3)).bulkOps(BulkMode.UNORDERED, ApplicantInterview.class);
+        verify(ok, times(6)).upsert(any(Query.class), any(Update.class));
+        verify(partial, times(4)).upsert(any(Query.class), any(Update.class));
+        assertEquals(6, result.getInserted());
+        assertEquals(3, result.getUpdated());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getFailedChunks().size());
+        assertEquals(1, result.getFailedChunks().get(0).getChunk());
+        assertEquals(4, result.getFailedChunks().get(0).getFirstCandidate());
+    }
+
+    @Test
+    void rejectsChunkSizesThatWouldNeverAdvance() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        CandidateDto candidate = new CandidateDto();
+        candidate.setEmail("a@x.com");
+        ApplicantInterviewRepositoryImpl repository = new ApplicantInterviewRepositoryImpl(mongoTemplate);
+
+        for (int chunkSize : new int[] { 0, -1 }) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.addInterviewIdToAll(List.of(candidate), "interview-1", chunkSize));
+        }
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static List<BulkWriteUpsert> upserts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BulkWriteUpsert(i, new BsonString("id" + i)))
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.nithish9020.backend.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.nithish9020.backend.config.MongoConfig;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.net.InetSocketAddress;
+
+/**
+ * An in-memory MongoDB wire-protocol server with a MongoTemplate set up like
+ * the application's, for tests that need the server to evaluate queries and
+ * updates. It has no transactions or change streams.
+ */
+public final class InMemoryMongo implements AutoCloseable {
+    private final MongoServer server;
+    private final MongoClient client;
+    private final MongoTemplate template;
+
+    private InMemoryMongo(MongoServer server, MongoClient client, MongoTemplate template) {
+        this.server = server;
+        this.client = client;
+        this.template = template;
+    }
+
+    public static InMemoryMongo start() {
+        MongoServer server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        MongoClient client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        SimpleMongoClientDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(client, "test");
+
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.setAutoIndexCreation(true);
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return new InMemoryMongo(server, client, new MongoTemplate(factory, converter));
+    }
+
+    public MongoTemplate template() {
+        return template;
+    }
+
+    // A Spring Data repository over the template, with the custom methods of its Impl class
+    public <T> T repository(Class<T> type) {
+        try {
+            Object custom = Class.forName(type.getName() + "Impl").getConstructor(MongoTemplate.class)
+                    .newInstance(template);
+            return new MongoRepositoryFactory(template).getRepository(type, RepositoryFragments.just(custom));
+        } catch (ClassNotFoundException e) {
+            return new MongoRepositoryFactory(template).getRepository(type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        server.shutdownNow();
+    }
+}
@@ -0,0 +1,125 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.InterviewJob;
+import com.nithish9020.backend.entity.InterviewJob.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterviewJobRepositoryImplTest {
+    private static final Duration STALE_AFTER = Duration.ofSeconds(60);
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final InterviewJobRepository jobs = mongo.repository(InterviewJobRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void claimNextTakesQueuedJobsOldestFirstAndOnlyOnce() {
+        String older = queued(Instant.now().minusSeconds(10));
+        String newer = queued(Instant.now());
+
+        InterviewJob first = claim("node-a").orElseThrow();
+        InterviewJob second = claim("node-b").orElseThrow();
+
+        assertEquals(older, first.getId());
+        assertEquals(Status.RUNNING, first.getStatus());
+        assertEquals("node-a", first.getOwner());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(first.getHeartbeatAt());
+        assertNotNull(first.getStartedAt());
+        assertEquals(newer, second.getId());
+        assertTrue(claim("node-c").isEmpty());
+    }
+
+    @Test
+    void updateIfOwnerAppliesOnlyForTheCurrentOwnerOfARunningJob() {
+        String id = queued(Instant.now());
+        claim("node-a");
+
+        assertFalse(jobs.updateIfOwner(id, "node-b", new Update().set("rowsRead", 99)));
+        assertTrue(jobs.updateIfOwner(id, "node-a", new Update().set("rowsRead", 10)));
+        assertTrue(jobs.updateIfOwner(id, "node-a", new Update().set("status", Status.COMPLETED)));
+        assertFalse(jobs.updateIfOwner(id, "node-a", new Update().set("rowsRead", 20)));
+
+        assertEquals(10, jobs.findById(id).orElseThrow().getRowsRead());
+    }
+
+    @Test
+    void aStaleLeaseIsTakenOverAndTheFormerOwnerIsLockedOut() {
+        String id = queued(Instant.now());
+        claim("node-a");
+        assertTrue(claim("node-b").isEmpty());
+
+        backdateHeartbeat(id);
+        InterviewJob takenOver = claim("node-b").orElseThrow();
+
+        assertEquals(id, takenOver.getId());
+        assertEquals("node-b", takenOver.getOwner());
+        assertEquals(2, takenOver.getAttempts());
+        assertFalse(jobs.updateIfOwner(id, "node-a", new Update().set("rowsRead", 1)));
+        assertEquals(0, jobs.renewLeases(List.of(id), "node-a"));
+    }
+
+    @Test
+    void renewedLeasesAreNotTakenOver() {
+        String mine = queued(Instant.now().minusSeconds(1));
+        String theirs = queued(Instant.now());
+        claim("node-a");
+        claim("node-b");
+        backdateHeartbeat(mine);
+        backdateHeartbeat(theirs);
+
+        assertEquals(1, jobs.renewLeases(List.of(mine, theirs), "node-a"));
+
+        InterviewJob claimed = claim("node-c").orElseThrow();
+        assertEquals(theirs, claimed.getId());
+        assertTrue(claim("node-c").isEmpty());
+    }
+
+    @Test
+    void staleJobsOutOfAttemptsAreFailedInsteadOfClaimed() {
+        String id = queued(Instant.now());
+        for (int attempt = 0; attempt < 3; attempt++) {
+            claim("node-" + attempt);
+            backdateHeartbeat(id);
+        }
+
+        assertTrue(claim("node-x").isEmpty());
+        assertEquals(1, jobs.failAbandoned(Instant.now().minus(STALE_AFTER), 3));
+
+        InterviewJob failed = jobs.findById(id).orElseThrow();
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertEquals("Gave up after 3 attempts", failed.getError());
+        assertNotNull(failed.getFinishedAt());
+    }
+
+    private Optional<InterviewJob> claim(String owner) {
+        return jobs.claimNext(owner, Instant.now().minus(STALE_AFTER), 3);
+    }
+
+    private String queued(Instant createdAt) {
+        InterviewJob job = new InterviewJob();
+        job.setCreatedBy("i@x.com");
+        job.setStatus(Status.QUEUED);
+        job.setStage(InterviewJob.Stage.PARSE);
+        job.setCreatedAt(createdAt);
+        return jobs.save(job).getId();
+    }
+
+    private void backdateHeartbeat(String id) {
+        InterviewJob job = jobs.findById(id).orElseThrow();
+        job.setHeartbeatAt(Instant.now().minus(STALE_AFTER).minusSeconds(1));
+        jobs.save(job);
+    }
+}
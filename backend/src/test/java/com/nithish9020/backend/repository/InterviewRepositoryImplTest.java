@@ -0,0 +1,137 @@
+package com.nithish9020.backend.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InterviewRepositoryImplTest {
+    private static final List<String> DATES = List.of("2025-01-06", "2025-01-07");
+    private static final List<String> TIMES = List.of("09:00", "10:00", "11:00", "14:00", "15:00");
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final InterviewRepositoryImpl repository = new InterviewRepositoryImpl(mongo.template());
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void claimSlotMatchesOnlyAStoredNullAndDecrementsOpenSlots() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Interview.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        new InterviewRepositoryImpl(mongoTemplate).claimSlot("interview-1", "2025-01-06", "09:00", "a@x.com");
+
+        verify(mongoTemplate).updateFirst(argThat(query -> query.getQueryObject().equals(new Document()
+                .append("_id", "interview-1")
+                .append("timeSlots.2025-01-06.09:00", new Document("$type", List.of("null"))))),
+                argThat(update -> update.getUpdateObject().equals(new Document()
+                        .append("$set", new Document("timeSlots.2025-01-06.09:00", "a@x.com"))
+                        .append("$inc", new Document("openSlots", -1)))),
+                eq(Interview.class));
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Interview.class));
+    }
+
+    @Test
+    void claimSlotReportsTakenAndUnknownSlotsDistinctly() {
+        String id = saveInterview();
+
+        assertEquals(ClaimResult.CLAIMED, repository.claimSlot(id, "2025-01-06", "09:00", "a@x.com"));
+        assertEquals(ClaimResult.ALREADY_TAKEN, repository.claimSlot(id, "2025-01-06", "09:00", "b@x.com"));
+        // An absent slot would match is(null); the null-type condition must not book it
+        assertEquals(ClaimResult.NO_SUCH_SLOT, repository.claimSlot(id, "2025-01-06", "13:00", "b@x.com"));
+        assertEquals(ClaimResult.NO_SUCH_SLOT, repository.claimSlot(id, "2025-01-08", "09:00", "b@x.com"));
+        assertEquals(ClaimResult.NO_SUCH_SLOT, repository.claimSlot(new ObjectId().toHexString(), "2025-01-06",
+                "10:00", "b@x.com"));
+
+        Interview interview = mongo.template().findById(id, Interview.class);
+        assertEquals("a@x.com", interview.getTimeSlots().bookedBy("2025-01-06", "09:00"));
+        assertFalse(interview.getTimeSlots().contains("2025-01-06", "13:00"));
+        assertEquals(9, interview.getOpenSlots());
+    }
+
+    @Test
+    void releaseSlotOnlyFreesTheApplicantsOwnBooking() {
+        String id = saveInterview();
+        repository.claimSlot(id, "2025-01-06", "09:00", "a@x.com");
+
+        assertFalse(repository.releaseSlot(id, "2025-01-06", "09:00", "b@x.com"));
+        assertTrue(repository.releaseSlot(id, "2025-01-06", "09:00", "a@x.com"));
+        assertFalse(repository.releaseSlot(id, "2025-01-06", "09:00", "a@x.com"));
+
+        Interview interview = mongo.template().findById(id, Interview.class);
+        assertNull(interview.getTimeSlots().bookedBy("2025-01-06", "09:00"));
+        assertEquals(10, interview.getOpenSlots());
+    }
+
+    @Test
+    void concurrentClaimsAgainstTheServerNeverDoubleBookASlot() throws Exception {
+        String id = saveInterview();
+        int threads = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClaimResult>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            String email = "candidate" + i + "@x.com";
+            String date = DATES.get(i % DATES.size());
+            String time = TIMES.get(i % TIMES.size());
+            results.add(pool.submit(() -> {
+                start.await();
+                return repository.claimSlot(id, date, time, email);
+            }));
+        }
+        start.countDown();
+
+        Map<ClaimResult, Integer> counts = new EnumMap<>(ClaimResult.class);
+        for (Future<ClaimResult> result : results) {
+            counts.merge(result.get(30, TimeUnit.SECONDS), 1, Integer::sum);
+        }
+        pool.shutdown();
+
+        int slotCount = DATES.size() * TIMES.size();
+        assertEquals(slotCount, counts.getOrDefault(ClaimResult.CLAIMED, 0));
+        assertEquals(threads - slotCount, counts.getOrDefault(ClaimResult.ALREADY_TAKEN, 0));
+        Interview interview = mongo.template().findById(id, Interview.class);
+        assertEquals(0, interview.getOpenSlots());
+        assertEquals(0, interview.getTimeSlots().openSlots());
+    }
+
+    private String saveInterview() {
+        Map<String, Map<String, String>> timeSlots = new HashMap<>();
+        DATES.forEach(date -> {
+            Map<String, String> day = new HashMap<>();
+            TIMES.forEach(time -> day.put(time, null));
+            timeSlots.put(date, day);
+        });
+        Interview interview = new Interview();
+        interview.setInterviewName("Backend");
+        interview.setFromDate(LocalDate.parse(DATES.get(0)));
+        interview.setToDate(LocalDate.parse(DATES.get(DATES.size() - 1)));
+        interview.setTimeSlots(SlotGrid.allFree(timeSlots));
+        interview.setTotalSlots(DATES.size() * TIMES.size());
+        interview.setOpenSlots(interview.getTotalSlots());
+        interview.setCreatedBy("i@x.com");
+        interview.setCreatedAt(LocalDateTime.now());
+        return mongo.template().insert(interview).getId();
+    }
+}
@@ -0,0 +1,113 @@
+package com.nithish9020.backend.repository;
+
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotRepositoryImplTest {
+    private static final String DAY = "2025-01-06";
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final SlotRepository slots = mongo.repository(SlotRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void claimBooksAFreeSlotOnceAndTellsTakenFromUnknown() {
+        slots.upsertSlots(List.of(interview("i1", Map.of("09:00", "", "10:00", ""))));
+
+        assertEquals(ClaimResult.CLAIMED, slots.claim("i1", DAY, "09:00", "a@x.com"));
+        assertEquals(ClaimResult.ALREADY_TAKEN, slots.claim("i1", DAY, "09:00", "b@x.com"));
+        assertEquals(ClaimResult.NO_SUCH_SLOT, slots.claim("i1", DAY, "11:00", "b@x.com"));
+        assertEquals(ClaimResult.NO_SUCH_SLOT, slots.claim("i2", DAY, "09:00", "b@x.com"));
+
+        Slot booked = slot("i1", "09:00");
+        assertEquals("a@x.com", booked.getBookedBy());
+        assertNotNull(booked.getBookedAt());
+        assertEquals(1L, booked.getVersion());
+        assertNull(slot("i1", "10:00").getBookedBy());
+    }
+
+    @Test
+    void releaseOnlyFreesTheApplicantsOwnBooking() {
+        slots.upsertSlots(List.of(interview("i1", Map.of("09:00", ""))));
+        slots.claim("i1", DAY, "09:00", "a@x.com");
+
+        assertFalse(slots.release("i1", DAY, "09:00", "b@x.com"));
+        assertTrue(slots.release("i1", DAY, "09:00", "a@x.com"));
+        assertFalse(slots.release("i1", DAY, "09:00", "a@x.com"));
+
+        Slot released = slot("i1", "09:00");
+        assertNull(released.getBookedBy());
+        assertNull(released.getBookedAt());
+        assertEquals(ClaimResult.CLAIMED, slots.claim("i1", DAY, "09:00", "b@x.com"));
+    }
+
+    @Test
+    void upsertSlotsCopiesBookingsAndNeverOverwritesExistingSlots() {
+        Interview interview = interview("i1", Map.of("09:00", "a@x.com", "10:00", ""));
+        Interview empty = new Interview();
+        empty.setId("i2");
+
+        assertEquals(2, slots.upsertSlots(List.of(interview, empty)));
+        assertEquals("a@x.com", slot("i1", "09:00").getBookedBy());
+        assertNull(slot("i1", "10:00").getBookedBy());
+
+        slots.claim("i1", DAY, "10:00", "b@x.com");
+        assertEquals(2, slots.upsertSlots(List.of(interview)));
+
+        assertEquals(2, slots.count());
+        assertEquals("b@x.com", slot("i1", "10:00").getBookedBy());
+        assertEquals(0, slots.upsertSlots(List.of(empty)));
+    }
+
+    @Test
+    void concurrentClaimsOnOneSlotHaveASingleWinner() throws Exception {
+        slots.upsertSlots(List.of(interview("i1", Map.of("09:00", ""))));
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClaimResult>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String email = "candidate" + i + "@x.com";
+            results.add(pool.submit(() -> {
+                start.await();
+                return slots.claim("i1", DAY, "09:00", email);
+            }));
+        }
+        start.countDown();
+
+        int claimed = 0;
+        for (Future<ClaimResult> result : results) {
+            if (result.get(30, TimeUnit.SECONDS) == ClaimResult.CLAIMED) {
+                claimed++;
+            }
+        }
+        pool.shutdown();
+        assertEquals(1, claimed);
+    }
+
+    // Map.of takes no null values, so an empty string marks a free slot here
+    private static Interview interview(String id, Map<String, String> day) {
+        Map<String, String> times = new HashMap<>();
+        day.forEach((time, bookedBy) -> times.put(time, bookedBy.isEmpty() ? null : bookedBy));
+        Interview interview = new Interview();
+        interview.setId(id);
+        interview.setTimeSlots(SlotGrid.of(Map.of(DAY, times)));
+        return interview;
+    }
+
+    private Slot slot(String interviewId, String time) {
+        return slots.findByInterviewIdAndDateAndTime(interviewId, DAY, time).orElseThrow();
+    }
+}
@@ -0,0 +1,134 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.repository.InterviewRepository;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilityIndexTest {
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoConverter converter = mock(MongoConverter.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<AvailabilityIndex> indexes = new ArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (AvailabilityIndex index : indexes) {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void changesKeepOnlyOpenInterviewsInTheView() {
+        AvailabilityIndex index = index();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        String id = new ObjectId().toHexString();
+        Document stored = new Document("_id", new ObjectId(id));
+
+        when(converter.read(eq(Interview.class), any())).thenReturn(interview(id, null));
+        index.apply(change(OperationType.INSERT, id, stored));
+        List<InterviewDto> view = index.availableInterviews();
+
+        assertEquals(List.of(id), view.stream().map(InterviewDto::getId).toList());
+        assertEquals(List.of("09:00"), view.get(0).getAvailableSlots().values().iterator().next());
+        assertSame(view, index.availableInterviews());
+
+        when(converter.read(eq(Interview.class), any())).thenReturn(interview(id, "a@x.com"));
+        index.apply(change(OperationType.UPDATE, id, stored));
+        assertTrue(index.availableInterviews().isEmpty());
+
+        when(converter.read(eq(Interview.class), any())).thenReturn(interview(id, null));
+        index.apply(change(OperationType.UPDATE, id, stored));
+        index.apply(change(OperationType.DELETE, id, null));
+        assertTrue(index.availableInterviews().isEmpty());
+        assertEquals(4, index.getStats().getEvents());
+    }
+
+    @Test
+    void aDroppedCollectionStopsTheStream() {
+        AvailabilityIndex index = index();
+
+        assertThrows(RuntimeException.class, () -> index.apply(change(OperationType.DROP, null, null)));
+    }
+
+    @Test
+    void snapshotsCarryTheIndexAndItsResumeToken() {
+        AvailabilityIndex before = index();
+        String id = new ObjectId().toHexString();
+        before.apply(id, interview(id, null));
+        BsonDocument token = new BsonDocument("_data", new BsonString("8263F1A2B3000000012B"));
+
+        before.saveSnapshot(token);
+        AvailabilityIndex after = index();
+
+        assertEquals(token, after.restoreSnapshot());
+        assertEquals(before.availableInterviews(), after.availableInterviews());
+        assertEquals(1, after.getStats().getSnapshotResumes());
+    }
+
+    @Test
+    void aMissingSnapshotMeansRebuilding() {
+        assertNull(index().restoreSnapshot());
+    }
+
+    // Never started: the tests drive the change handling directly
+    private AvailabilityIndex index() {
+        AvailabilityIndex index = new AvailabilityIndex(mongoTemplate, mock(InterviewRepository.class),
+                objectMapper, new BlockingExecutors(false), false, directory.resolve("index.json"), 60, 10);
+        indexes.add(index);
+        return index;
+    }
+
+    private static Interview interview(String id, String bookedBy) {
+        Map<String, String> day = new HashMap<>();
+        day.put("09:00", bookedBy);
+        Interview interview = new Interview();
+        interview.setId(id);
+        interview.setInterviewName("Backend");
+        interview.setFromDate(LocalDate.now());
+        interview.setToDate(LocalDate.now().plusDays(1));
+        interview.setTimeSlots(SlotGrid.of(Map.of(LocalDate.now().toString(), day)));
+        interview.setCreatedBy("i@x.com");
+        interview.setCreatedAt(LocalDateTime.now());
+        return interview;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> change(OperationType type, String id, Document fullDocument) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(type);
+        when(change.getFullDocument()).thenReturn(fullDocument);
+        when(change.getDocumentKey())
+                .thenReturn(id == null ? null : new BsonDocument("_id", new BsonObjectId(new ObjectId(id))));
+        return change;
+    }
+}
@@ -0,0 +1,82 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CandidateViewCacheTest {
+    private static final TypeReference<List<String>> LIST = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private CandidateViewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.multiGet(anyList())).thenReturn(Arrays.asList("3", null));
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        cache = new CandidateViewCache(redis, mock(RedisMessageListenerContainer.class), new ObjectMapper(), 60, 5);
+    }
+
+    @Test
+    void repeatReadsAreServedLocally() {
+        assertEquals(List.of("a"), cache.get("view", LIST, this::load));
+        assertEquals(List.of("a"), cache.get("view", LIST, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getLocalHits());
+        assertEquals(1, cache.getStats().getMisses());
+        verify(values, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    void redisCopyIsUsedWhenTheLocalCacheIsEmpty() {
+        when(values.multiGet(anyList())).thenReturn(Arrays.asList("3", "{\"computedAt\":1,\"value\":[\"b\"]}"));
+
+        assertEquals(List.of("b"), cache.get("view", LIST, this::load));
+
+        assertEquals(0, loads.get());
+        assertEquals(1, cache.getStats().getRedisHits());
+    }
+
+    @Test
+    void invalidationForcesAReload() {
+        cache.get("view", LIST, this::load);
+        cache.invalidate();
+        cache.get("view", LIST, this::load);
+
+        assertEquals(2, loads.get());
+        verify(redis).convertAndSend(eq(CandidateViewCache.CHANNEL), anyString());
+    }
+
+    @Test
+    void fallsBackToTheDatabaseWhenRedisIsDown() {
+        when(values.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(List.of("a"), cache.get("view", LIST, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    private List<String> load() {
+        loads.incrementAndGet();
+        return List.of("a");
+    }
+}
@@ -0,0 +1,44 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.ExcelImportSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelCandidateImporterTest {
+    private final ExcelCandidateImporter importer = new ExcelCandidateImporter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void importsValidRowsAndSummarisesRejectedOnes() throws Exception {
+        int rows = 5_000;
+        Path workbook = ExcelFixtures.writeCandidates(tempDir.resolve("candidates.xlsx"), rows, 97, 50);
+
+        List<CandidateDto> candidates = new ArrayList<>();
+        ExcelImportSummary summary = importer.importCandidates(workbook, candidates::add);
+
+        int invalid = ExcelFixtures.expectedInvalid(rows, 97);
+        int duplicates = ExcelFixtures.expectedDuplicates(rows, 97, 50);
+        assertEquals(rows, summary.getRowsRead());
+        assertEquals(invalid, summary.getInvalidEmails());
+        assertEquals(duplicates, summary.getDuplicates());
+        assertEquals(rows - invalid - duplicates, summary.getCandidates());
+        assertEquals(summary.getCandidates(), candidates.size());
+        assertEquals(ExcelImportSummary.MAX_REPORTED_ERRORS, summary.getErrors().size());
+
+        CandidateDto first = candidates.get(0);
+        assertEquals("candidate1@example.com", first.getEmail());
+        assertEquals("Candidate 1", first.getName());
+        // Row numbers are reported as Excel shows them, header included
+        assertEquals(51, summary.getErrors().get(0).getRow());
+        assertEquals("Duplicate email", summary.getErrors().get(0).getReason());
+    }
+}
@@ -0,0 +1,73 @@
+package com.nithish9020.backend.service;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates candidate workbooks of arbitrary size for importer tests and benchmarks.
+ * Every {@code invalidEvery}-th row has a malformed email and every {@code duplicateEvery}-th
+ * row repeats an earlier email, so the expected summary can be computed up front.
+ */
+public final class ExcelFixtures {
+
+    private ExcelFixtures() {
+    }
+
+    public static Path writeCandidates(Path target, int rows, int invalidEvery, int duplicateEvery) throws IOException {
+        // SXSSF keeps a 100-row window in memory, so fixtures of any size can be written
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+                OutputStream out = Files.newOutputStream(target)) {
+            Sheet sheet = workbook.createSheet("Candidates");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Email");
+            header.createCell(1).setCellValue("Name");
+
+            for (int i = 1; i <= rows; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(emailFor(i, invalidEvery, duplicateEvery));
+                row.createCell(1).setCellValue("Candidate " + i);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+        return target;
+    }
+
+    public static int expectedInvalid(int rows, int invalidEvery) {
+        return invalidEvery > 0 ? rows / invalidEvery : 0;
+    }
+
+    public static int expectedDuplicates(int rows, int invalidEvery, int duplicateEvery) {
+        int duplicates = 0;
+        for (int i = 1; i <= rows; i++) {
+            if (!isInvalid(i, invalidEvery) && isDuplicate(i, duplicateEvery)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+
+    private static String emailFor(int i, int invalidEvery, int duplicateEvery) {
+        if (isInvalid(i, invalidEvery)) {
+            return "not-an-email-" + i;
+        }
+        if (isDuplicate(i, duplicateEvery)) {
+            return "candidate1@example.com";
+        }
+        return "candidate" + i + "@example.com";
+    }
+
+    private static boolean isInvalid(int i, int invalidEvery) {
+        return invalidEvery > 0 && i % invalidEvery == 0;
+    }
+
+    private static boolean isDuplicate(int i, int duplicateEvery) {
+        return duplicateEvery > 0 && i > 1 && i % duplicateEvery == 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.nithish9020.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityProviderClientTest {
+    private StubIdentityProvider idp;
+
+    @BeforeEach
+    void start() throws Exception {
+        idp = new StubIdentityProvider();
+    }
+
+    @AfterEach
+    void stop() {
+        idp.close();
+    }
+
+    @Test
+    void exchangesTokenAndFetchesUserInfo() {
+        IdentityProviderClient client = client(1_000, 3, 1);
+
+        Map<String, Object> token = client.postForm(idp.url("/token"), "code=abc&grant_type=authorization_code");
+        Map<String, Object> user = client.get(idp.url("/userinfo"), (String) token.get("access_token"));
+
+        assertEquals("stub-token", token.get("access_token"));
+        assertEquals("candidate@example.com", user.get("email"));
+    }
+
+    @Test
+    void slowProviderIsCutOffByTheReadTimeout() {
+        IdentityProviderClient client = client(200, 3, 1);
+        idp.setLatencyMillis(2_000);
+
+        long started = System.currentTimeMillis();
+        assertThrows(RuntimeException.class, () -> client.get(idp.url("/userinfo"), "t"));
+        assertTrue(System.currentTimeMillis() - started < 1_500);
+    }
+
+    @Test
+    void breakerOpensAfterRepeatedFailuresAndFailsFast() {
+        IdentityProviderClient client = client(1_000, 3, 60);
+        idp.setStatus(503);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> client.get(idp.url("/userinfo"), "t"));
+        }
+        RuntimeException open = assertThrows(RuntimeException.class, () -> client.get(idp.url("/userinfo"), "t"));
+
+        assertTrue(open.getMessage().contains("temporarily unavailable"));
+        assertEquals(3, idp.getRequests());
+        assertEquals("OPEN", client.getBreakerStates().get("127.0.0.1"));
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheBreaker() {
+        IdentityProviderClient client = client(1_000, 2, 60);
+        idp.setStatus(400);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> client.postForm(idp.url("/token"), "code=used"));
+        }
+        assertEquals(4, idp.getRequests());
+        assertEquals("CLOSED", client.getBreakerStates().get("127.0.0.1"));
+    }
+
+    @Test
+    void callsBeyondTheHostLimitAreRejectedInsteadOfQueued() {
+        IdentityProviderClient client = new IdentityProviderClient(1_000, 5_000, 1, 100, 5, 30);
+        idp.setLatencyMillis(1_000);
+
+        CompletableFuture<Map<String, Object>> first = CompletableFuture
+                .supplyAsync(() -> client.get(idp.url("/userinfo"), "t"));
+        while (idp.getRequests() == 0) {
+            Thread.onSpinWait();
+        }
+        RuntimeException busy = assertThrows(RuntimeException.class, () -> client.get(idp.url("/userinfo"), "t"));
+
+        assertTrue(busy.getMessage().contains("busy"));
+        assertEquals("candidate@example.com", first.join().get("email"));
+    }
+
+    private static IdentityProviderClient client(long readTimeoutMillis, int failureThreshold, long openSeconds) {
+        return new IdentityProviderClient(1_000, readTimeoutMillis, 10, 500, failureThreshold, openSeconds);
+    }
+}
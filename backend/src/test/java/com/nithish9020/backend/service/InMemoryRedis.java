@@ -0,0 +1,53 @@
+package com.nithish9020.backend.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An in-memory Redis server with a StringRedisTemplate connected to it, for
+ * tests that need the services' Lua scripts to actually run.
+ */
+public final class InMemoryRedis implements AutoCloseable {
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    private InMemoryRedis(RedisServer server, LettuceConnectionFactory connectionFactory) {
+        this.server = server;
+        this.connectionFactory = connectionFactory;
+        this.template = new StringRedisTemplate(connectionFactory);
+    }
+
+    public static InMemoryRedis start() {
+        try {
+            RedisServer server = RedisServer.newRedisServer();
+            server.start();
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            return new InMemoryRedis(server, connectionFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        try {
+            server.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
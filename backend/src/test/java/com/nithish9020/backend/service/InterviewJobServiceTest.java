@@ -0,0 +1,152 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.CandidateDto;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.dto.InterviewJobStatus;
+import com.nithish9020.backend.entity.InterviewJob;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InMemoryMongo;
+import com.nithish9020.backend.repository.InterviewJobRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Runs jobs end to end against an in-memory server, with interview creation itself mocked out
+class InterviewJobServiceTest {
+    private static final long STALE_AFTER_SECONDS = 60;
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final InterviewJobRepository jobs = mongo.repository(InterviewJobRepository.class);
+    private final ApplicantInterviewRepository applicants = mongo.repository(ApplicantInterviewRepository.class);
+    private final GridFsTemplate gridFs = new GridFsTemplate(mongo.template().getMongoDatabaseFactory(),
+            mongo.template().getConverter());
+    private final InterviewService interviewService = mock(InterviewService.class);
+    private final CountDownLatch saving = new CountDownLatch(1);
+    private final CountDownLatch saved = new CountDownLatch(1);
+    private InterviewJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        // Holds the job in its persist stage, where it writes no progress, until the test lets it go
+        when(interviewService.saveInterview(any(), anyString(), anyString())).thenAnswer(call -> {
+            saving.countDown();
+            assertTrue(saved.await(10, TimeUnit.SECONDS));
+            return call.getArgument(2);
+        });
+        jobService = new InterviewJobService(jobs, mongo.repository(InterviewRepository.class), applicants,
+                interviewService, new ExcelCandidateImporter(), gridFs,
+                new ServiceMetrics(new SimpleMeterRegistry()), new BlockingExecutors(false), 1,
+                STALE_AFTER_SECONDS, 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+        mongo.close();
+    }
+
+    @Test
+    void anUploadIsKeptInGridFsUntilItsCandidatesAreRegistered() throws Exception {
+        Path workbook = ExcelFixtures.writeCandidates(Files.createTempFile("candidates-", ".xlsx"), 5, 0, 0);
+        MockMultipartFile file = new MockMultipartFile("file", "candidates.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", Files.readAllBytes(workbook));
+        Files.delete(workbook);
+
+        String jobId = jobService.submit(request(List.of()), file, "i@x.com");
+        assertTrue(saving.await(10, TimeUnit.SECONDS));
+
+        InterviewJob running = jobs.findById(jobId).orElseThrow();
+        assertEquals("candidates.xlsx", running.getFileName());
+        assertNotNull(gridFs.findOne(byId(running.getFileId())));
+        assertEquals(5, running.getCandidatesTotal());
+
+        saved.countDown();
+        InterviewJobStatus done = awaitFinished(jobId);
+
+        assertEquals("COMPLETED", done.getStatus());
+        assertEquals(running.getInterviewId(), done.getInterviewId());
+        assertEquals(5, done.getCandidatesRegistered());
+        assertEquals(5, done.getInserted());
+        assertEquals(3, jobs.findById(jobId).orElseThrow().getChunksDone());
+        assertEquals(5, applicants.count());
+        assertTrue(applicants.findAll().stream()
+                .allMatch(applicant -> applicant.getInterviewIds().contains(running.getInterviewId())));
+        assertNull(gridFs.findOne(byId(running.getFileId())));
+    }
+
+    @Test
+    void theLeaseIsRenewedWhileAStageRunsWithoutWritingProgress() throws Exception {
+        String jobId = jobService.submit(request(List.of(candidate("a@x.com"))), null, "i@x.com");
+        assertTrue(saving.await(10, TimeUnit.SECONDS));
+
+        Instant stale = Instant.now().minusSeconds(STALE_AFTER_SECONDS + 1);
+        mongo.template().updateFirst(byId(jobId), new Update().set("heartbeatAt", stale), InterviewJob.class);
+        jobService.heartbeat();
+
+        assertTrue(jobs.findById(jobId).orElseThrow().getHeartbeatAt().isAfter(stale));
+        assertTrue(jobs.claimNext("other-node", Instant.now().minusSeconds(STALE_AFTER_SECONDS), 3).isEmpty());
+
+        saved.countDown();
+        assertEquals("COMPLETED", awaitFinished(jobId).getStatus());
+    }
+
+    @Test
+    void onlyTheSubmitterCanViewAJob() throws Exception {
+        String jobId = jobService.submit(request(List.of(candidate("a@x.com"))), null, "i@x.com");
+        saved.countDown();
+
+        assertEquals("Unauthorized to view this job",
+                assertThrows(RuntimeException.class, () -> jobService.getJob(jobId, "j@x.com")).getMessage());
+        assertEquals("COMPLETED", awaitFinished(jobId).getStatus());
+    }
+
+    private InterviewJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            InterviewJobStatus status = jobService.getJob(jobId, "i@x.com");
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Job " + jobId + " did not finish");
+    }
+
+    private static CreateInterviewRequest request(List<CandidateDto> candidates) {
+        CreateInterviewRequest request = new CreateInterviewRequest();
+        request.setInterviewName("Backend");
+        request.setCandidates(candidates);
+        return request;
+    }
+
+    private static CandidateDto candidate(String email) {
+        CandidateDto candidate = new CandidateDto();
+        candidate.setEmail(email);
+        candidate.setName(email);
+        return candidate;
+    }
+
+    private static Query byId(String id) {
+        return new Query(Criteria.where("_id").is(new ObjectId(id)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.CreateInterviewRequest;
+import com.nithish9020.backend.entity.ApplicantInterview;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InMemoryMongo;
+import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import com.nithish9020.backend.repository.SlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Booking and cancelling against the real repositories on an in-memory server
+class InterviewServiceBookingTest {
+    private static final String DAY = LocalDate.now().plusDays(1).toString();
+
+    private final InMemoryMongo mongo = InMemoryMongo.start();
+    private final InterviewRepository interviews = mongo.repository(InterviewRepository.class);
+    private final SlotRepository slots = mongo.repository(SlotRepository.class);
+    private final ApplicantInterviewRepository applicants = mongo.repository(ApplicantInterviewRepository.class);
+    private final InterviewService interviewService = new InterviewService(interviews, slots, applicants,
+            new ExcelCandidateImporter(), new ObjectMapper(), mock(CandidateViewCache.class),
+            mock(SlotFeedService.class), new ServiceMetrics(new SimpleMeterRegistry()), mock(AvailabilityIndex.class),
+            mock(SlotHoldService.class));
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void aSecondBookingInTheSameInterviewIsRejectedAndCancelFreesEverything() {
+        String id = createInterview("09:00", "09:30");
+
+        assertEquals(ClaimResult.CLAIMED, interviewService.bookSlot(id, DAY, "09:00", "c@x.com"));
+        RuntimeException second = assertThrows(RuntimeException.class,
+                () -> interviewService.bookSlot(id, DAY, "09:30", "c@x.com"));
+        assertEquals("You have already booked a slot in this interview", second.getMessage());
+        assertNull(slot(id, "09:30").getBookedBy());
+
+        interviewService.cancelBooking(id, "c@x.com");
+
+        assertTrue(slots.findAll().stream().allMatch(slot -> slot.getBookedBy() == null));
+        Interview interview = interviews.findById(id).orElseThrow();
+        assertEquals(2, interview.getOpenSlots());
+        assertEquals(2, interview.getTimeSlots().openSlots());
+        assertTrue(applicants.findById("c@x.com").map(ApplicantInterview::getBookings).orElse(Map.of()).isEmpty());
+        assertEquals(ClaimResult.CLAIMED, interviewService.bookSlot(id, DAY, "09:30", "c@x.com"));
+    }
+
+    @Test
+    void aLostRaceLeavesNoBookingBehind() {
+        String id = createInterview("09:00");
+
+        assertEquals(ClaimResult.CLAIMED, interviewService.bookSlot(id, DAY, "09:00", "a@x.com"));
+        assertEquals(ClaimResult.ALREADY_TAKEN, interviewService.bookSlot(id, DAY, "09:00", "b@x.com"));
+        assertThrows(RuntimeException.class, () -> interviewService.bookSlot(id, DAY, "11:00", "b@x.com"));
+
+        assertTrue(applicants.findById("b@x.com").map(ApplicantInterview::getBookings).orElse(Map.of()).isEmpty());
+        assertEquals(List.of(id), interviewIds("a@x.com"));
+        assertEquals(List.of(), interviewIds("b@x.com"));
+    }
+
+    // The migration copied the slot before a@x.com booked it, so only the interview document knows
+    @Test
+    void aSlotCopiedBeforeItsBookingCannotBeBookedTwice() {
+        String id = createInterview("09:00");
+        assertEquals(ClaimResult.CLAIMED, interviews.claimSlot(id, DAY, "09:00", "a@x.com"));
+
+        assertEquals(ClaimResult.ALREADY_TAKEN, interviewService.bookSlot(id, DAY, "09:00", "b@x.com"));
+
+        assertNull(slot(id, "09:00").getBookedBy());
+        assertEquals("a@x.com", interviews.findById(id).orElseThrow().getTimeSlots().bookedBy(DAY, "09:00"));
+        assertTrue(applicants.findById("b@x.com").map(ApplicantInterview::getBookings).orElse(Map.of()).isEmpty());
+        assertEquals(List.of(), interviewIds("b@x.com"));
+    }
+
+    @Test
+    void failedBookingsGrantNoAccessToTheInterview() {
+        String unknown = new ObjectId().toHexString();
+
+        assertThrows(RuntimeException.class, () -> interviewService.bookSlot(unknown, DAY, "09:00", "c@x.com"));
+        assertThrows(IllegalArgumentException.class,
+                () -> interviewService.bookSlot("x.$where", DAY, "09:00", "c@x.com"));
+
+        assertEquals(List.of(), interviewIds("c@x.com"));
+        assertTrue(applicants.findById("c@x.com").map(ApplicantInterview::getBookings).orElse(Map.of()).isEmpty());
+    }
+
+    private List<String> interviewIds(String email) {
+        return applicants.findById(email).map(ApplicantInterview::getInterviewIds).orElse(List.of());
+    }
+
+    private String createInterview(String... times) {
+        Map<String, String> day = new HashMap<>();
+        for (String time : times) {
+            day.put(time, null);
+        }
+        CreateInterviewRequest request = new CreateInterviewRequest();
+        request.setInterviewName("Backend");
+        request.setFromDate(LocalDate.parse(DAY));
+        request.setToDate(LocalDate.parse(DAY));
+        request.setTimeSlots(Map.of(DAY, day));
+        request.setCandidates(List.of());
+        return interviewService.saveInterview(request, "i@x.com", null);
+    }
+
+    private Slot slot(String interviewId, String time) {
+        return slots.findByInterviewIdAndDateAndTime(interviewId, DAY, time).orElseThrow();
+    }
+}
@@ -0,0 +1,207 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.InterviewDto;
+import com.nithish9020.backend.dto.InterviewPage;
+import com.nithish9020.backend.dto.SlotDelta.Change;
+import com.nithish9020.backend.entity.Interview;
+import com.nithish9020.backend.entity.Slot;
+import com.nithish9020.backend.entity.SlotGrid;
+import com.nithish9020.backend.repository.ApplicantInterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepository;
+import com.nithish9020.backend.repository.InterviewRepositoryCustom.ClaimResult;
+import com.nithish9020.backend.repository.SlotRepository;
+import com.nithish9020.backend.service.SlotHoldService.HeldSlot;
+import com.nithish9020.backend.service.SlotHoldService.HoldOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InterviewServiceTest {
+    private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+    private final SlotRepository slotRepository = mock(SlotRepository.class);
+    private final ApplicantInterviewRepository applicants = mock(ApplicantInterviewRepository.class);
+    private final AvailabilityIndex availabilityIndex = mock(AvailabilityIndex.class);
+    private final SlotHoldService slotHolds = mock(SlotHoldService.class);
+    private final SlotFeedService slotFeed = mock(SlotFeedService.class);
+    private final InterviewService interviewService = new InterviewService(interviewRepository,
+            slotRepository, applicants, new ExcelCandidateImporter(),
+            new ObjectMapper(), mock(CandidateViewCache.class), slotFeed,
+            new ServiceMetrics(new SimpleMeterRegistry()), availabilityIndex, slotHolds);
+
+    @Test
+    void pagesCarryCountsAndACursorToTheNextPage() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 31, 12, 0);
+        List<Interview> rows = IntStream.range(0, 3).mapToObj(i -> interview(now.minusDays(i))).toList();
+        when(interviewRepository.findSummariesByCreator("i@x.com", null, null, 3)).thenReturn(rows);
+
+        InterviewPage first = interviewService.getInterviewsByCreator("i@x.com", null, 2);
+
+        assertEquals(2, first.getItems().size());
+        assertEquals(16, first.getItems().get(0).getTotalSlots());
+        assertEquals(4, first.getItems().get(0).getBookedSlots());
+        assertNotNull(first.getNextCursor());
+
+        when(interviewRepository.findSummariesByCreator(eq("i@x.com"), any(), any(), eq(3)))
+                .thenReturn(rows.subList(2, 3));
+        InterviewPage second = interviewService.getInterviewsByCreator("i@x.com", first.getNextCursor(), 2);
+
+        verify(interviewRepository).findSummariesByCreator("i@x.com", rows.get(1).getCreatedAt(),
+                rows.get(1).getId(), 3);
+        assertEquals(1, second.getItems().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void malformedCursorsAndLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> interviewService.getInterviewsByCreator("i@x.com", "not-a-cursor", 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> interviewService.getInterviewsByCreator("i@x.com", null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> interviewService.getInterviewsByCreator("i@x.com", null, 101));
+    }
+
+    @Test
+    void heldSlotsAreHiddenFromTheFreeLists() {
+        InterviewDto busy = available("busy", Map.of("2025-02-03", List.of("09:00", "09:30")));
+        InterviewDto full = available("full", Map.of("2025-02-03", List.of("10:00")));
+        InterviewDto quiet = available("quiet", Map.of("2025-02-03", List.of("11:00")));
+        when(availabilityIndex.isReady()).thenReturn(true);
+        when(availabilityIndex.availableInterviews()).thenReturn(List.of(busy, full, quiet));
+        when(slotHolds.activeHolds()).thenReturn(Map.of(
+                "busy", Map.of("2025-02-03", Set.of("09:00")),
+                "full", Map.of("2025-02-03", Set.of("10:00"))));
+        when(slotHolds.heldSlots("busy")).thenReturn(Map.of("2025-02-03", Set.of("09:00")));
+        when(slotRepository.findByInterviewIdAndDateAndBookedByIsNullOrderByTimeAsc("busy", "2025-02-03"))
+                .thenReturn(List.of(slot("09:00"), slot("09:30")));
+
+        List<InterviewDto> visible = interviewService.getAvailableInterviews("c@x.com");
+
+        assertEquals(List.of("busy", "quiet"), visible.stream().map(InterviewDto::getId).toList());
+        assertEquals(List.of("09:30"), visible.get(0).getAvailableSlots().get("2025-02-03"));
+        assertSame(quiet, visible.get(1));
+        assertEquals(List.of("09:00", "09:30"), busy.getAvailableSlots().get("2025-02-03"));
+        assertEquals(List.of("09:30"), interviewService.getFreeSlots("busy", "2025-02-03"));
+    }
+
+    @Test
+    void confirmingBooksTheHeldSlotAndLetsTheHoldGo() {
+        when(slotHolds.extend("i1", "c@x.com")).thenReturn(new HeldSlot("i1", "2025-02-03", "09:00"));
+        when(applicants.addBooking("c@x.com", "i1", "2025-02-03", "09:00")).thenReturn(true);
+        when(slotRepository.claim("i1", "2025-02-03", "09:00", "c@x.com")).thenReturn(ClaimResult.CLAIMED);
+        when(interviewRepository.claimSlot("i1", "2025-02-03", "09:00", "c@x.com")).thenReturn(ClaimResult.CLAIMED);
+
+        assertEquals(ClaimResult.CLAIMED, interviewService.confirmHold("i1", "c@x.com"));
+        verify(slotHolds).release("i1", "c@x.com");
+        verify(slotFeed).publish("i1", "2025-02-03", "09:00", Change.BOOKED);
+        verify(slotFeed, never()).publish(any(), any(), any(), eq(Change.RELEASED));
+
+        when(slotHolds.extend("i1", "late@x.com")).thenReturn(null);
+        assertThrows(IllegalStateException.class, () -> interviewService.confirmHold("i1", "late@x.com"));
+        verify(slotRepository, never()).claim(any(), any(), any(), eq("late@x.com"));
+    }
+
+    @Test
+    void aConfirmationThatFailsAnnouncesTheSlotAsFreeAgain() {
+        HeldSlot held = new HeldSlot("i1", "2025-02-03", "09:00");
+        when(slotHolds.extend("i1", "c@x.com")).thenReturn(held);
+        when(slotHolds.release("i1", "c@x.com")).thenReturn(held);
+        when(applicants.addBooking("c@x.com", "i1", "2025-02-03", "09:00")).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () -> interviewService.confirmHold("i1", "c@x.com"));
+
+        verify(slotHolds).release("i1", "c@x.com");
+        verify(slotFeed).publish("i1", "2025-02-03", "09:00", Change.RELEASED);
+        verify(slotRepository, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void slotsHeldByOthersCannotBeHeldOrBookedDirectly() {
+        String id = new ObjectId().toHexString();
+        when(slotRepository.findByInterviewIdAndDateAndTime(id, "2025-02-03", "09:00"))
+                .thenReturn(Optional.of(slot("09:00")));
+        when(slotHolds.hold(id, "2025-02-03", "09:00", "c@x.com")).thenReturn(new HoldOutcome(false, 0, null));
+        when(slotHolds.isHeldByOther(id, "2025-02-03", "09:00", "c@x.com")).thenReturn(true);
+
+        assertTrue(interviewService.holdSlot(id, "2025-02-03", "09:00", "c@x.com").isEmpty());
+        assertEquals(ClaimResult.ALREADY_TAKEN, interviewService.bookSlot(id, "2025-02-03", "09:00", "c@x.com"));
+        verify(slotRepository, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void aFreeSlotDocumentLosesToABookingInTheInterviewDocument() {
+        when(applicants.addBooking("c@x.com", "i1", "2025-02-03", "09:00")).thenReturn(true);
+        when(slotRepository.claim("i1", "2025-02-03", "09:00", "c@x.com")).thenReturn(ClaimResult.CLAIMED);
+        when(interviewRepository.claimSlot("i1", "2025-02-03", "09:00", "c@x.com"))
+                .thenReturn(ClaimResult.ALREADY_TAKEN);
+
+        assertEquals(ClaimResult.ALREADY_TAKEN, interviewService.bookSlot("i1", "2025-02-03", "09:00", "c@x.com"));
+
+        verify(slotRepository).release("i1", "2025-02-03", "09:00", "c@x.com");
+        verify(applicants).removeBooking("c@x.com", "i1");
+        verify(applicants, never()).addInterviewId(any(), any());
+        verify(slotFeed, never()).publish(any(), any(), any(), any());
+    }
+
+    @Test
+    void onlyRealSlotsCanBeHeld() {
+        String id = new ObjectId().toHexString();
+        Interview unmigrated = interview(LocalDateTime.now());
+        Map<String, String> day = new HashMap<>();
+        day.put("10:00", null);
+        unmigrated.setTimeSlots(SlotGrid.of(Map.of("2025-02-03", day)));
+        when(interviewRepository.findById(unmigrated.getId())).thenReturn(Optional.of(unmigrated));
+        when(slotHolds.hold(eq(unmigrated.getId()), any(), any(), any())).thenReturn(new HoldOutcome(true, 1L, null));
+
+        for (String[] input : new String[][] { { "i1", "2025-02-03", "09:00" }, { id, "2025-02-30", "09:00" },
+                { id, "2025-02-03:x", "09:00" }, { id, "2025-02-03", "9:00" }, { id, "2025-02-03", "24:00" } }) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> interviewService.holdSlot(input[0], input[1], input[2], "c@x.com"));
+        }
+        assertEquals("Invalid time slot", assertThrows(RuntimeException.class,
+                () -> interviewService.holdSlot(id, "2025-02-03", "09:00", "c@x.com")).getMessage());
+        assertThrows(RuntimeException.class,
+                () -> interviewService.holdSlot(unmigrated.getId(), "2025-02-03", "09:00", "c@x.com"));
+        verify(slotHolds, never()).hold(any(), any(), any(), any());
+        verify(slotFeed, never()).publish(any(), any(), any(), any());
+
+        assertTrue(interviewService.holdSlot(unmigrated.getId(), "2025-02-03", "10:00", "c@x.com").isPresent());
+        verify(slotFeed).publish(unmigrated.getId(), "2025-02-03", "10:00", Change.HELD);
+    }
+
+    private static InterviewDto available(String id, Map<String, List<String>> availableSlots) {
+        InterviewDto dto = new InterviewDto();
+        dto.setId(id);
+        dto.setAvailableSlots(availableSlots);
+        return dto;
+    }
+
+    private static Slot slot(String time) {
+        Slot slot = new Slot();
+        slot.setTime(time);
+        return slot;
+    }
+
+    private static Interview interview(LocalDateTime createdAt) {
+        Interview interview = new Interview();
+        interview.setId(new ObjectId().toHexString());
+        interview.setInterviewName("Interview " + createdAt);
+        interview.setCreatedAt(createdAt);
+        interview.setTotalSlots(16);
+        interview.setOpenSlots(12);
+        return interview;
+    }
+}
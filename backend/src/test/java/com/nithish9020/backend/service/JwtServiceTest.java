@@ -0,0 +1,53 @@
+package com.nithish9020.backend.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60, 100, 60);
+
+    @Test
+    void repeatTokensAreServedFromTheCache() {
+        String token = jwtService.generateToken("a@x.com");
+
+        assertEquals("a@x.com", jwtService.getUsernameFromToken(token));
+        assertEquals("a@x.com", jwtService.getUsernameFromToken(token));
+
+        assertEquals(1, jwtService.getVerificationCacheStats().missCount());
+        assertEquals(1, jwtService.getVerificationCacheStats().hitCount());
+    }
+
+    @Test
+    void tamperedTokensAreStillRejectedAfterTheOriginalIsCached() {
+        String token = jwtService.generateToken("a@x.com");
+        jwtService.getUsernameFromToken(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+        assertThrows(IllegalArgumentException.class, () -> jwtService.getUsernameFromToken(tampered));
+    }
+
+    @Test
+    void expiredTokensAreNotCached() {
+        Instant past = Instant.now().minusSeconds(120);
+        String expired = Jwts.builder()
+                .setSubject("a@x.com")
+                .setIssuedAt(Date.from(past))
+                .setExpiration(Date.from(past.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.getUsernameFromToken(expired));
+        assertThrows(IllegalArgumentException.class, () -> jwtService.getUsernameFromToken(expired));
+        assertEquals(0, jwtService.getVerificationCacheStats().hitCount());
+    }
+}
@@ -0,0 +1,63 @@
+package com.nithish9020.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.nithish9020.backend.dto.OutboundMail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailBatchSenderTest {
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServiceMetrics metrics = new ServiceMetrics(registry);
+
+    @Test
+    void sendsTheWholeBatchOverTheFakeServer() throws Exception {
+        List<OutboundMail> batch = IntStream.range(0, 25)
+                .mapToObj(i -> mail("m" + i, "user" + i + "@example.com"))
+                .toList();
+
+        Map<String, Exception> failures = new MailBatchSender(sender(smtp.getSmtp().getPort()), metrics).send(batch);
+
+        assertTrue(failures.isEmpty());
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(25, received.length);
+        assertEquals("Your OTP", received[0].getSubject());
+    }
+
+    @Test
+    void reportsEveryMailAsFailedWhenTheServerIsDown() {
+        List<OutboundMail> batch = List.of(mail("a", "a@example.com"), mail("b", "b@example.com"));
+
+        Map<String, Exception> failures = new MailBatchSender(sender(1), metrics).send(batch);
+
+        assertEquals(Set.of("a", "b"), failures.keySet());
+        assertFalse(MailQueueService.isPermanent(failures.get("a")));
+        assertEquals(1, registry.get(ServiceMetrics.SERVICE_TIMER)
+                .tags("method", "sendMailBatch", "outcome", "failed").timer().count());
+    }
+
+    private static JavaMailSenderImpl sender(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(port);
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return sender;
+    }
+
+    private static OutboundMail mail(String id, String to) {
+        return new OutboundMail(id, to, "Your OTP", "123456", 0, System.currentTimeMillis(), null);
+    }
+}
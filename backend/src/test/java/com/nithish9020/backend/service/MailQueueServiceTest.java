@@ -0,0 +1,133 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.MailQueueStats;
+import com.nithish9020.backend.dto.OutboundMail;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSendException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class MailQueueServiceTest {
+    private final InMemoryRedis redis = InMemoryRedis.start();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MailBatchSender batchSender = mock(MailBatchSender.class);
+    // One sender, two attempts and a 1 ms retry backoff, so a failing mail reaches the dead letters quickly
+    private final MailQueueService mailQueue = new MailQueueService(redis.template(), batchSender, objectMapper,
+            new BlockingExecutors(false), 1, 20, 60, 2, 1, 1, 100);
+
+    @AfterEach
+    void tearDown() {
+        mailQueue.shutdown();
+        redis.close();
+    }
+
+    @Test
+    void aFailingMailIsRetriedAndThenDeadLetteredWithoutItsBody() throws Exception {
+        List<Long> inFlightDuringSend = new CopyOnWriteArrayList<>();
+        when(batchSender.send(anyList())).thenAnswer(call -> {
+            inFlightDuringSend.add(redis.template().opsForZSet().zCard(MailQueueService.INFLIGHT_KEY));
+            return failAll(call.getArgument(0), new MailSendException("connection refused"));
+        });
+
+        mailQueue.enqueue("a@x.com", "Your code", "OTP 123456");
+        // The retry entry is written before the in-flight one is removed
+        MailQueueStats retrying = awaitStats(stats -> stats.getRetrying() == 1 && stats.getInFlight() == 0);
+        assertEquals(0, retrying.getQueued());
+
+        Thread.sleep(5);
+        mailQueue.poll();
+        MailQueueStats dead = awaitStats(stats -> stats.getDeadLettered() == 1 && stats.getInFlight() == 0);
+
+        assertEquals(List.of(1L, 1L), inFlightDuringSend);
+        assertEquals(0, dead.getRetrying());
+        assertEquals(2, dead.getFailedAttempts());
+        OutboundMail deadLetter = objectMapper.readValue(
+                redis.template().opsForList().index(MailQueueService.DEAD_KEY, 0), OutboundMail.class);
+        assertEquals("a@x.com", deadLetter.getTo());
+        assertEquals("Your code", deadLetter.getSubject());
+        assertEquals(2, deadLetter.getAttempts());
+        assertEquals("connection refused", deadLetter.getLastError());
+        assertNull(deadLetter.getBody());
+    }
+
+    @Test
+    void aPermanentFailureIsDeadLetteredWithoutRetrying() {
+        when(batchSender.send(anyList())).thenAnswer(call -> failAll(call.getArgument(0),
+                new MailParseException("bad address")));
+
+        mailQueue.enqueue("not-an-address", "Your code", "OTP 123456");
+        MailQueueStats dead = awaitStats(stats -> stats.getDeadLettered() == 1);
+
+        assertEquals(0, dead.getRetrying());
+        assertEquals(1, dead.getFailedAttempts());
+        verify(batchSender, times(1)).send(anyList());
+    }
+
+    @Test
+    void mailWhoseSenderLeaseExpiredIsQueuedAgainAndSent() throws Exception {
+        when(batchSender.send(anyList())).thenReturn(Map.of());
+        long now = System.currentTimeMillis();
+        OutboundMail orphaned = new OutboundMail("m1", "a@x.com", "Hello", "body", 0, now, null);
+        OutboundMail leased = new OutboundMail("m2", "b@x.com", "Hello", "body", 0, now, null);
+        redis.template().opsForZSet().add(MailQueueService.INFLIGHT_KEY, objectMapper.writeValueAsString(orphaned),
+                now - 1);
+        redis.template().opsForZSet().add(MailQueueService.INFLIGHT_KEY, objectMapper.writeValueAsString(leased),
+                now + 60_000);
+
+        mailQueue.poll();
+        MailQueueStats stats = awaitStats(s -> s.getSent() == 1 && s.getInFlight() == 1);
+
+        assertEquals(0, stats.getQueued());
+        verify(batchSender).send(argThat(batch -> batch.size() == 1 && batch.get(0).getId().equals("m1")));
+    }
+
+    @Test
+    void retryDelayDoublesUpToTheCap() {
+        assertEquals(2_000, MailQueueService.retryDelayMillis(1, 2_000, 60_000));
+        assertEquals(4_000, MailQueueService.retryDelayMillis(2, 2_000, 60_000));
+        assertEquals(32_000, MailQueueService.retryDelayMillis(5, 2_000, 60_000));
+        assertEquals(60_000, MailQueueService.retryDelayMillis(6, 2_000, 60_000));
+        assertEquals(60_000, MailQueueService.retryDelayMillis(500, 2_000, 60_000));
+    }
+
+    @Test
+    void rejectedRecipientsAreNotRetried() throws Exception {
+        SendFailedException rejected = new SendFailedException("550 no such user", null, new InternetAddress[0],
+                new InternetAddress[0], new InternetAddress[] { new InternetAddress("nobody@example.com") });
+
+        assertTrue(MailQueueService.isPermanent(new MailSendException("send failed", rejected)));
+        assertFalse(MailQueueService.isPermanent(new MailSendException("connection refused")));
+    }
+
+    private static Map<String, Exception> failAll(List<OutboundMail> batch, Exception error) {
+        Map<String, Exception> failures = new HashMap<>();
+        batch.forEach(mail -> failures.put(mail.getId(), error));
+        return failures;
+    }
+
+    private MailQueueStats awaitStats(Predicate<MailQueueStats> condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            MailQueueStats stats = mailQueue.getStats();
+            if (condition.test(stats)) {
+                return stats;
+            }
+            Thread.onSpinWait();
+        }
+        return fail("Mail queue did not reach the expected state: " + mailQueue.getStats());
+    }
+}
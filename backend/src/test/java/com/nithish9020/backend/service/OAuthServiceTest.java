@@ -0,0 +1,96 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.dto.OAuthRequest;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.User;
+import com.nithish9020.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OAuthServiceTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final IdentityProviderClient idp = mock(IdentityProviderClient.class);
+    private final OAuthService oAuthService = new OAuthService(userRepository,
+            new JwtService("test-secret-test-secret-test-secret-test-secret", 60, 100, 60), idp, mock(UserCache.class),
+            new ServiceMetrics(new SimpleMeterRegistry()), 60);
+    private final Map<String, Object> profile = new HashMap<>(Map.of(
+            "id", "g-1", "email", "a@x.com", "name", "Alice", "verified_email", true));
+
+    @BeforeEach
+    void setUp() {
+        when(idp.postForm(any(), any())).thenReturn(Map.of("access_token", "t"));
+        when(idp.get(any(), any())).thenAnswer(invocation -> profile);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void unchangedUserIsResolvedWithOneQueryAndNotRewritten() {
+        when(userRepository.findOAuthCandidates(eq("g-1"), eq("google"), anyCollection()))
+                .thenReturn(List.of(linkedUser("Alice")));
+
+        Map<String, Object> response = oAuthService.handleOAuthCallback(request());
+
+        assertEquals("a@x.com", response.get("email"));
+        verify(userRepository, times(1)).findOAuthCandidates(any(), any(), anyCollection());
+        verify(userRepository, never()).findByEmail(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void repeatLoginIsServedFromTheCache() {
+        when(userRepository.findOAuthCandidates(any(), any(), anyCollection()))
+                .thenReturn(List.of(linkedUser("Alice")));
+
+        oAuthService.handleOAuthCallback(request());
+        oAuthService.handleOAuthCallback(request());
+
+        verify(userRepository, times(1)).findOAuthCandidates(any(), any(), anyCollection());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void changedProfileIsWrittenOnce() {
+        when(userRepository.findOAuthCandidates(any(), any(), anyCollection()))
+                .thenReturn(List.of(linkedUser("Old Name")));
+
+        Map<String, Object> first = oAuthService.handleOAuthCallback(request());
+        oAuthService.handleOAuthCallback(request());
+
+        assertEquals("Alice", first.get("name"));
+        verify(userRepository, times(1)).save(argThat(user -> user.getName().equals("Alice")));
+    }
+
+    @Test
+    void oauthIdMatchWinsOverEmailMatch() {
+        User byEmail = linkedUser("Alice");
+        byEmail.setId(2L);
+        byEmail.setOauthId(null);
+        byEmail.setOauthProvider(null);
+        User byOAuthId = linkedUser("Alice");
+        byOAuthId.setEmail("alice@old.com");
+        when(userRepository.findOAuthCandidates(any(), any(), anyCollection())).thenReturn(List.of(byEmail, byOAuthId));
+
+        Map<String, Object> response = oAuthService.handleOAuthCallback(request());
+
+        assertEquals("alice@old.com", response.get("email"));
+    }
+
+    private static OAuthRequest request() {
+        return new OAuthRequest("code", "google", "APPLICANT");
+    }
+
+    private static User linkedUser(String name) {
+        return new User(1L, "a@x.com", name, "OAUTH_USER_NO_PASSWORD", true, Instant.now(), ROLE.APPLICANT,
+                "g-1", "google", true);
+    }
+}
@@ -0,0 +1,116 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.dto.TempUser;
+import com.nithish9020.backend.service.OtpService.Outcome;
+import com.nithish9020.backend.service.OtpService.Verification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the signup scripts on an in-memory Redis
+class OtpServiceTest {
+    private static final String KEY = "signup:a@x.com";
+
+    private final InMemoryRedis redis = InMemoryRedis.start();
+    private final OtpService otpService = new OtpService(redis.template(), new ObjectMapper(),
+            new ServiceMetrics(new SimpleMeterRegistry()), 3);
+
+    @AfterEach
+    void tearDown() {
+        redis.close();
+    }
+
+    @Test
+    void theRightCodeReturnsThePendingUserAndConsumesIt() {
+        String otp = otpService.startSignup(user());
+        Long ttl = redis.template().getExpire(KEY);
+        assertTrue(ttl != null && ttl > 0 && ttl <= Duration.ofMinutes(10).toSeconds());
+
+        Verification verified = otpService.verifyAndConsume("A@x.com", otp);
+
+        assertEquals(Outcome.VERIFIED, verified.outcome());
+        assertEquals("a@x.com", verified.user().getEmail());
+        assertEquals("hash", verified.user().getPasswordHash());
+        assertFalse(redis.template().hasKey(KEY));
+        assertEquals(Outcome.EXPIRED, otpService.verifyAndConsume("a@x.com", otp).outcome());
+    }
+
+    @Test
+    void aWrongCodeCountsAnAttemptAndKeepsTheSignup() {
+        String otp = otpService.startSignup(user());
+
+        assertEquals(Outcome.INVALID_CODE, otpService.verifyAndConsume("a@x.com", wrong(otp)).outcome());
+        assertEquals(Outcome.INVALID_CODE, otpService.verifyAndConsume("a@x.com", null).outcome());
+
+        assertEquals("2", redis.template().opsForHash().get(KEY, "attempts"));
+        assertEquals(Outcome.VERIFIED, otpService.verifyAndConsume("a@x.com", otp).outcome());
+    }
+
+    @Test
+    void theLastAllowedWrongCodeLocksTheSignupOut() {
+        String otp = otpService.startSignup(user());
+
+        assertEquals(Outcome.INVALID_CODE, otpService.verifyAndConsume("a@x.com", wrong(otp)).outcome());
+        assertEquals(Outcome.INVALID_CODE, otpService.verifyAndConsume("a@x.com", wrong(otp)).outcome());
+        assertEquals(Outcome.TOO_MANY_ATTEMPTS, otpService.verifyAndConsume("a@x.com", wrong(otp)).outcome());
+
+        assertFalse(redis.template().hasKey(KEY));
+        assertEquals(Outcome.EXPIRED, otpService.verifyAndConsume("a@x.com", otp).outcome());
+    }
+
+    @Test
+    void anExpiredSignupCannotBeVerified() throws InterruptedException {
+        String otp = otpService.startSignup(user());
+        redis.template().expire(KEY, Duration.ofMillis(50));
+        Thread.sleep(200);
+
+        assertEquals(Outcome.EXPIRED, otpService.verifyAndConsume("a@x.com", otp).outcome());
+    }
+
+    @Test
+    void racingVerificationsConsumeTheCodeExactlyOnce() throws Exception {
+        String otp = otpService.startSignup(user());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> outcomes = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            outcomes.add(pool.submit(() -> {
+                start.await();
+                return otpService.verifyAndConsume("a@x.com", otp).outcome();
+            }));
+        }
+        start.countDown();
+
+        int verified = 0;
+        for (Future<Outcome> outcome : outcomes) {
+            Outcome result = outcome.get(10, TimeUnit.SECONDS);
+            if (result == Outcome.VERIFIED) {
+                verified++;
+            } else {
+                assertEquals(Outcome.EXPIRED, result);
+            }
+        }
+        pool.shutdown();
+        assertEquals(1, verified);
+    }
+
+    private static TempUser user() {
+        TempUser user = new TempUser();
+        user.setName("A");
+        user.setEmail("a@x.com");
+        user.setPasswordHash("hash");
+        return user;
+    }
+
+    private static String wrong(String otp) {
+        return otp.equals("000000") ? "000001" : "000000";
+    }
+}
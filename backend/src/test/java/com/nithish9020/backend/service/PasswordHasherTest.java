@@ -0,0 +1,64 @@
+package com.nithish9020.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void encodedPasswordsMatchAtTheConfiguredCost() {
+        hasher = new PasswordHasher(4, 250, 2, 4, 5000);
+
+        String hash = hasher.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+        assertEquals(3, hasher.getStats().getCompleted());
+    }
+
+    @Test
+    void hashesBeyondTheQueueAreShedWithRetryAfter() throws Exception {
+        // One worker and one queue slot: two slow hashes fill the pool, the third is rejected
+        hasher = new PasswordHasher(14, 250, 1, 1, 30_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        while (hasher.getStats().getQueued() < 1) {
+            Thread.sleep(5);
+        }
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> hasher.encode("c"));
+
+        assertEquals(1, e.getRetryAfterSeconds());
+        assertEquals(1, hasher.getStats().getRejected());
+        running.cancel(true);
+        queued.cancel(true);
+    }
+
+    @Test
+    void hashesThatOutwaitTheTimeoutAreShed() {
+        hasher = new PasswordHasher(14, 250, 1, 1, 1);
+
+        assertThrows(TooManyRequestsException.class, () -> hasher.encode("slow"));
+        assertEquals(1, hasher.getStats().getTimedOut());
+    }
+
+    @Test
+    void calibrationStaysWithinTheSupportedRange() {
+        hasher = new PasswordHasher(4, 250, 1, 1, 5000);
+
+        int cost = PasswordHasher.calibrate(1);
+
+        assertTrue(cost >= PasswordHasher.MIN_COST && cost <= PasswordHasher.MAX_COST);
+    }
+}
@@ -0,0 +1,38 @@
+package com.nithish9020.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServiceMetrics metrics = new ServiceMetrics(registry);
+
+    @Test
+    void outcomesAreTaggedFromTheResult() {
+        metrics.time("bookSlot", taken -> taken ? "conflict" : "success", () -> true);
+        metrics.time("bookSlot", taken -> taken ? "conflict" : "success", () -> false);
+        metrics.time("bookSlot", taken -> taken ? "conflict" : "success", () -> true);
+
+        assertEquals(2, count("bookSlot", "conflict", "none"));
+        assertEquals(1, count("bookSlot", "success", "none"));
+    }
+
+    @Test
+    void failuresAreTimedAndRethrown() {
+        assertThrows(IOException.class, () -> metrics.time("processExcelFile", () -> {
+            throw new IOException("corrupt workbook");
+        }));
+
+        assertEquals(1, count("processExcelFile", "error", "IOException"));
+    }
+
+    private long count(String method, String outcome, String exception) {
+        return registry.get(ServiceMetrics.SERVICE_TIMER)
+                .tags("method", method, "outcome", outcome, "exception", exception)
+                .timer().count();
+    }
+}
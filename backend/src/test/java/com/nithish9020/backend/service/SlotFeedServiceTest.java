@@ -0,0 +1,170 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithish9020.backend.config.BlockingExecutors;
+import com.nithish9020.backend.dto.SlotDelta;
+import com.nithish9020.backend.dto.SlotDelta.Change;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlotFeedServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SlotFeedService feed = new SlotFeedService(mock(StringRedisTemplate.class),
+            mock(RedisMessageListenerContainer.class), objectMapper, new BlockingExecutors(false), 60_000, 250,
+            25_000, 2, 2);
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void changesAreCoalescedPerSlotAndInterview() throws Exception {
+        RecordingEmitter first = subscribe("i1");
+        RecordingEmitter second = subscribe("i2");
+
+        receive(new SlotDelta("i1", "2025-02-03", "09:00", Change.HELD));
+        receive(new SlotDelta("i1", "2025-02-03", "09:30", Change.BOOKED));
+        receive(new SlotDelta("i1", "2025-02-03", "09:00", Change.RELEASED));
+        receive(new SlotDelta("i2", "2025-02-03", "10:00", Change.BOOKED));
+        receive(new SlotDelta("i3", "2025-02-03", "11:00", Change.BOOKED)); // nobody watching
+        feed.flush();
+
+        assertEquals(List.of(new SlotDelta("i1", "2025-02-03", "09:30", Change.BOOKED),
+                new SlotDelta("i1", "2025-02-03", "09:00", Change.RELEASED)), first.nextDeltas());
+        assertEquals(List.of(new SlotDelta("i2", "2025-02-03", "10:00", Change.BOOKED)), second.nextDeltas());
+
+        feed.flush(); // an empty window sends nothing
+        assertNull(first.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void heartbeatsReachEveryClient() throws Exception {
+        RecordingEmitter first = subscribe("i1");
+        RecordingEmitter second = subscribe("i2");
+
+        feed.heartbeat();
+
+        assertTrue(first.nextText().contains(":keep-alive"));
+        assertTrue(second.nextText().contains(":keep-alive"));
+    }
+
+    @Test
+    void clientsAreRemovedOnCompletionErrorAndFailedWrites() throws Exception {
+        RecordingEmitter completed = subscribe("i1");
+        RecordingEmitter failed = subscribe("i1");
+        RecordingEmitter broken = subscribe("i2");
+        assertEquals(3, feed.getConnectionCount());
+
+        completed.completion.run();
+        failed.error.accept(new IOException("reset"));
+        assertEquals(1, feed.getConnectionCount());
+
+        broken.broken = true;
+        feed.heartbeat();
+        waitFor(() -> feed.getConnectionCount() == 0);
+    }
+
+    @Test
+    void aClientThatStopsReadingIsDroppedWithoutDelayingOthers() throws Exception {
+        RecordingEmitter stalled = subscribe("i1");
+        RecordingEmitter healthy = subscribe("i1");
+        stalled.stall = new CountDownLatch(1);
+
+        // Queues hold two events; the stalled client is stuck in its first send
+        for (int i = 0; i < 4; i++) {
+            feed.heartbeat();
+            healthy.nextText();
+        }
+
+        waitFor(() -> feed.getConnectionCount() == 1);
+        assertEquals(1, feed.getDroppedCount());
+        stalled.stall.countDown();
+    }
+
+    private RecordingEmitter subscribe(String interviewId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(interviewId, emitter);
+        return emitter;
+    }
+
+    private void receive(SlotDelta delta) throws Exception {
+        feed.onMessage(new DefaultMessage(("slots:" + delta.getInterviewId()).getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(delta)), null);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    // Records what would be written to the client and the callbacks the feed registers
+    private static class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<List<Object>> events = new LinkedBlockingQueue<>();
+        Runnable completion;
+        Consumer<Throwable> error;
+        volatile boolean broken;
+        volatile CountDownLatch stall;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("broken pipe");
+            }
+            if (stall != null) {
+                try {
+                    stall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            List<Object> parts = new ArrayList<>();
+            builder.build().forEach(part -> parts.add(part.getData()));
+            events.add(parts);
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completion = callback;
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            error = callback;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<SlotDelta> nextDeltas() throws InterruptedException {
+            List<Object> parts = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(parts);
+            return (List<SlotDelta>) parts.stream().filter(List.class::isInstance).findFirst().orElseThrow();
+        }
+
+        String nextText() throws InterruptedException {
+            List<Object> parts = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(parts);
+            return parts.toString();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.nithish9020.backend.service;
+
+import com.nithish9020.backend.service.SlotHoldService.HeldSlot;
+import com.nithish9020.backend.service.SlotHoldService.HoldOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SlotHoldServiceTest {
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> sortedSets = mock(ZSetOperations.class);
+    private SlotHoldService holds;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.opsForZSet()).thenReturn(sortedSets);
+        holds = new SlotHoldService(redis, 120, 10_000, 60_000);
+    }
+
+    @Test
+    void holdingAnotherSlotLetsThePreviousOneGo() {
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn("", "i1:2025-02-03:09:00", null);
+
+        HoldOutcome first = holds.hold("i1", "2025-02-03", "09:00", "a@x.com");
+        HoldOutcome second = holds.hold("i1", "2025-02-03", "09:30", "a@x.com");
+        HoldOutcome taken = holds.hold("i1", "2025-02-03", "09:30", "b@x.com");
+
+        assertTrue(first.placed());
+        assertNull(first.replaced());
+        assertTrue(first.expiresAt() > System.currentTimeMillis());
+        assertEquals(new HeldSlot("i1", "2025-02-03", "09:00"), second.replaced());
+        assertFalse(taken.placed());
+        verify(redis).execute(any(RedisScript.class),
+                eq(List.of("holds:slot:i1:2025-02-03:09:30", "holds:candidate:i1:b@x.com", "holds:active")),
+                eq("b@x.com"), eq("i1:2025-02-03:09:30"), eq("120000"), anyString(), eq("holds:slot:"));
+    }
+
+    @Test
+    void liveHoldsAreGroupedAndReadOncePerRefresh() {
+        when(sortedSets.rangeByScore(eq("holds:active"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("i1:2025-02-03:09:00", "i1:2025-02-03:10:30", "i2:2025-02-04:14:00"));
+
+        assertEquals(Map.of("2025-02-03", Set.of("09:00", "10:30")), holds.heldSlots("i1"));
+        assertEquals(Set.of("i1", "i2"), holds.activeHolds().keySet());
+        assertEquals(Map.of(), holds.heldSlots("i3"));
+        verify(sortedSets, times(1)).rangeByScore(anyString(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void extendingALeaseMovesItsExpiryInTheActiveSet() {
+        try (InMemoryRedis server = InMemoryRedis.start()) {
+            StringRedisTemplate template = server.template();
+            // A 1 s lease, extended to at least 10 s while the booking is written
+            SlotHoldService shortHolds = new SlotHoldService(template, 1, 10_000, 0);
+            assertTrue(shortHolds.hold("i1", "2025-02-03", "09:00", "a@x.com").placed());
+
+            long before = System.currentTimeMillis();
+            assertEquals(new HeldSlot("i1", "2025-02-03", "09:00"), shortHolds.extend("i1", "a@x.com"));
+
+            Double expiry = template.opsForZSet().score("holds:active", "i1:2025-02-03:09:00");
+            assertTrue(expiry != null && expiry >= before + 10_000, "expiry: " + expiry);
+            assertTrue(template.getExpire("holds:slot:i1:2025-02-03:09:00", TimeUnit.MILLISECONDS) > 5_000);
+            assertTrue(template.getExpire("holds:candidate:i1:a@x.com", TimeUnit.MILLISECONDS) > 5_000);
+            assertNull(shortHolds.extend("i1", "b@x.com"));
+            assertEquals(expiry, template.opsForZSet().score("holds:active", "i1:2025-02-03:09:00"));
+        }
+    }
+
+    @Test
+    void onlyOneCallerReloadsWhileTheOthersServeTheLastSnapshot() throws Exception {
+        holds = new SlotHoldService(redis, 120, 10_000, 0);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(sortedSets.rangeByScore(eq("holds:active"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("i1:2025-02-03:09:00"))
+                .thenAnswer(call -> {
+                    reloading.countDown();
+                    assertTrue(finish.await(10, TimeUnit.SECONDS));
+                    return Set.of("i1:2025-02-03:09:00", "i1:2025-02-03:10:00");
+                });
+        assertEquals(Map.of("2025-02-03", Set.of("09:00")), holds.heldSlots("i1"));
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<Map<String, Set<String>>> slow = pool.submit(() -> holds.heldSlots("i1"));
+        assertTrue(reloading.await(10, TimeUnit.SECONDS));
+
+        assertEquals(Map.of("2025-02-03", Set.of("09:00")), holds.heldSlots("i1"));
+        finish.countDown();
+        assertEquals(Map.of("2025-02-03", Set.of("09:00", "10:00")), slow.get(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        verify(sortedSets, times(2)).rangeByScore(anyString(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void readsFailOpenWhenRedisIsDown() {
+        when(sortedSets.rangeByScore(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(values.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(holds.activeHolds().isEmpty());
+        assertFalse(holds.isHeldByOther("i1", "2025-02-03", "09:00", "a@x.com"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.nithish9020.backend.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for an OAuth provider: {@code POST /token} and
+ * {@code GET /userinfo}. Latency and failures can be changed while a test
+ * runs.
+ */
+public class StubIdentityProvider implements AutoCloseable {
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile int status = 200;
+
+    public StubIdentityProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/token", exchange -> respond(exchange,
+                "{\"access_token\":\"stub-token\",\"token_type\":\"Bearer\",\"expires_in\":3600}"));
+        server.createContext("/userinfo", exchange -> respond(exchange,
+                "{\"id\":\"42\",\"email\":\"candidate@example.com\",\"name\":\"Candidate\",\"verified_email\":true}"));
+        server.start();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = (status == 200 ? json : "{\"error\":\"stub_failure\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
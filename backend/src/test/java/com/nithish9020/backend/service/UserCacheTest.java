@@ -0,0 +1,165 @@
+package com.nithish9020.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nithish9020.backend.dto.SignupRequest.ROLE;
+import com.nithish9020.backend.entity.User;
+import com.nithish9020.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+    private static final int USERS = 50;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> recent = mock(ZSetOperations.class);
+    private UserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.opsForZSet()).thenReturn(recent);
+        when(recent.score(anyString(), anyString())).thenReturn(null);
+        List<String> emails = IntStream.range(0, USERS).mapToObj(i -> "user" + i + "@example.com").toList();
+        when(userRepository.findAllEmails(any())).thenReturn(new SliceImpl<>(emails, PageRequest.of(0, 5000), false));
+        when(userRepository.findByEmail(anyString())).thenAnswer(invocation -> {
+            String email = invocation.getArgument(0);
+            return emails.contains(email) ? Optional.of(user(email)) : Optional.empty();
+        });
+        cache = node(redis);
+        cache.rebuildBloomFilter();
+    }
+
+    // Login mix: 2,000 lookups over 50 users plus 2,000 signup checks for unregistered emails
+    @Test
+    void loginAndSignupMixHitsTheDatabaseOncePerUser() {
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(cache.findByEmail("user" + (i % USERS) + "@example.com").isPresent());
+            cache.findByEmail("attacker" + i + "@example.com");
+        }
+
+        long queries = mockingDetails(userRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findByEmail"))
+                .count();
+        // One load per user; bloom false positives (~1%) may add a few unregistered lookups
+        assertTrue(queries < USERS + 100, "queries: " + queries);
+        assertTrue(cache.getStats().getBloomNegatives() > 1_900);
+    }
+
+    @Test
+    void cachedUserRoundTripsWithAllFields() {
+        User first = cache.findByEmail("user1@example.com").orElseThrow();
+        User second = cache.findByEmail("user1@example.com").orElseThrow();
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertTrue(second.isOAuthUser());
+        assertEquals(1, cache.getStats().getLocalHits());
+    }
+
+    @Test
+    void newlyRegisteredEmailsPassTheFilter() {
+        assertTrue(cache.findByEmail("new@example.com").isEmpty());
+        long before = cache.getStats().getDatabaseLoads();
+
+        cache.registered("new@example.com");
+        cache.findByEmail("new@example.com");
+
+        assertEquals(before + 1, cache.getStats().getDatabaseLoads());
+        verify(redis).convertAndSend(UserCache.CHANNEL, "added:new@example.com");
+    }
+
+    @Test
+    void evictionDropsTheCachedCopy() {
+        cache.findByEmail("user2@example.com");
+        cache.evict("user2@example.com");
+        cache.findByEmail("user2@example.com");
+
+        verify(userRepository, times(2)).findByEmail("user2@example.com");
+        verify(redis).delete("user:user2@example.com");
+    }
+
+    // Broadcasts are not delivered here, so the second node only has users:recent to go on
+    @Test
+    void aRegistrationMissedByAnotherNodeIsConfirmedFromRedis() {
+        try (InMemoryRedis shared = InMemoryRedis.start()) {
+            UserCache first = node(shared.template());
+            UserCache second = node(shared.template());
+            first.rebuildBloomFilter();
+            second.rebuildBloomFilter();
+            when(userRepository.findByEmail("late@example.com")).thenReturn(Optional.of(user("late@example.com")));
+
+            first.registered("Late@example.com");
+
+            assertTrue(second.findByEmail("late@example.com").isPresent());
+            assertTrue(second.findByEmail("late@example.com").isPresent());
+            assertTrue(second.findByEmail("never@example.com").isEmpty());
+            assertEquals(1, second.getStats().getBloomNegatives());
+            assertEquals(1, second.getStats().getLocalHits());
+        }
+    }
+
+    @Test
+    void aRebuildPicksUpUsersTheFilterMissed() {
+        when(userRepository.findAllEmails(any())).thenReturn(new SliceImpl<>(List.of("user1@example.com",
+                "late@example.com"), PageRequest.of(0, 5000), false));
+        when(userRepository.findByEmail("late@example.com")).thenReturn(Optional.of(user("late@example.com")));
+        assertTrue(cache.findByEmail("late@example.com").isEmpty());
+
+        cache.rebuildPeriodically();
+
+        assertTrue(cache.findByEmail("late@example.com").isPresent());
+        verify(recent).removeRangeByScore(eq("users:recent"), eq(0.0), anyDouble());
+    }
+
+    @Test
+    void passwordHashesNeverReachRedis() {
+        try (InMemoryRedis shared = InMemoryRedis.start()) {
+            UserCache first = node(shared.template());
+            UserCache second = node(shared.template());
+
+            assertEquals("$2a$10$hash", first.findForLogin("user1@example.com").orElseThrow().getPasswordHash());
+            String cached = shared.template().opsForValue().get("user:user1@example.com");
+            assertNotNull(cached);
+            assertFalse(cached.contains("passwordHash"), cached);
+
+            User fromRedis = second.findByEmail("user1@example.com").orElseThrow();
+            assertNull(fromRedis.getPasswordHash());
+            assertEquals("User", fromRedis.getName());
+            assertEquals("$2a$10$hash", second.findForLogin("user1@example.com").orElseThrow().getPasswordHash());
+            assertEquals("$2a$10$hash", first.findForLogin("user1@example.com").orElseThrow().getPasswordHash());
+            assertEquals(1, second.getStats().getRedisHits());
+            assertEquals(1, second.getStats().getDatabaseLoads());
+            assertEquals(1, first.getStats().getLocalHits());
+        }
+    }
+
+    private UserCache node(StringRedisTemplate template) {
+        return new UserCache(userRepository, template, mock(RedisMessageListenerContainer.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()), 300, 30, 1000, 10_000, 0.01, 5000, 60_000);
+    }
+
+    private static User user(String email) {
+        return new User(1L, email, "User", "$2a$10$hash", true, Instant.parse("2025-01-01T00:00:00Z"),
+                ROLE.APPLICANT, "oid", "google", true);
+    }
+}
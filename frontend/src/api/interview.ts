@@ -23,6 +23,39 @@ export interface AvailableInterview {
   createdBy: string;
 }
 
+// One row of GET /api/interviews/my-interviews; the slot grid comes from getInterviewById
+export interface InterviewSummary {
+  id: string;
+  interviewName: string;
+  fromDate: string;
+  toDate: string;
+  createdAt: string;
+  totalSlots: number;
+  bookedSlots: number;
+  openSlots: number;
+}
+
+export interface InterviewPage {
+  items: InterviewSummary[];
+  nextCursor: string | null;
+}
+
+// One slot changing state on the live slot stream
+export interface SlotDelta {
+  interviewId: string;
+  date: string;
+  time: string;
+  change: 'BOOKED' | 'HELD' | 'RELEASED';
+}
+
+// A slot kept aside for the candidate until expiresAt (epoch millis) unless confirmed
+export interface SlotHold {
+  interviewId: string;
+  date: string;
+  time: string;
+  expiresAt: number;
+}
+
 const api = axios.create({
   baseURL: import.meta.env.VITE_API_URL,
   headers: {
@@ -100,9 +133,10 @@ export const createInterview = async (request: CreateInterviewRequest) => {
   }
 };
 
-export const getMyInterviews = async () => {
+// Newest first; pass the previous page's nextCursor to get the one after it
+export const getMyInterviews = async (cursor?: string, limit = 20): Promise<InterviewPage> => {
   try {
-    const response = await api.get('/api/interviews/my-interviews');
+    const response = await api.get('/api/interviews/my-interviews', { params: { cursor, limit } });
     return response.data;
   } catch (error) {
     console.error('Failed to fetch interviews:', error);
@@ -140,4 +174,40 @@ export const bookSlot = async (
   timeSlot: string
 ): Promise<void> => {
   await api.post(`/api/interviews/${interviewId}/book`, { date, timeSlot });
-};
\ No newline at end of file
+};
+
+// Rejects with a 409 when the slot is booked or another candidate is holding it
+export const holdSlot = async (
+  interviewId: string,
+  date: string,
+  timeSlot: string
+): Promise<SlotHold> => {
+  const response = await api.post(`/api/interviews/${interviewId}/hold`, { date, timeSlot });
+  return response.data;
+};
+
+// Rejects with a 409 when the hold has expired or the slot went to someone else
+export const confirmHold = async (interviewId: string): Promise<void> => {
+  await api.post(`/api/interviews/${interviewId}/hold/confirm`);
+};
+
+export const releaseHold = async (interviewId: string): Promise<void> => {
+  await api.delete(`/api/interviews/${interviewId}/hold`);
+};
+
+// Live slot changes for one interview, in batches. EventSource cannot send the Authorization
+// header, so the stream is opened with a short-lived token scoped to this interview. Returns
+// a function that closes the stream.
+export const openSlotStream = async (
+  interviewId: string,
+  onChanges: (changes: SlotDelta[]) => void
+): Promise<() => void> => {
+  const response = await api.post(`/api/interviews/${interviewId}/slots/stream-token`);
+  const url = `${import.meta.env.VITE_API_URL}/api/interviews/${interviewId}/slots/stream`
+    + `?token=${encodeURIComponent(response.data.token)}`;
+  const source = new EventSource(url);
+  source.addEventListener('slots', (event) => onChanges(JSON.parse((event as MessageEvent).data)));
+  // EventSource would retry with the same token after it has expired; callers reopen instead
+  source.onerror = () => source.close();
+  return () => source.close();
+};
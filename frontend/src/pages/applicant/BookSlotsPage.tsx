@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
-import { getAvailableInterviews, bookSlot } from '@/api/interview';
-import type { AvailableInterview } from '@/api/interview';
+import axios from 'axios';
+import { getAvailableInterviews, holdSlot, confirmHold, releaseHold } from '@/api/interview';
+import type { AvailableInterview, SlotHold } from '@/api/interview';
 import { Button } from '@/components/ui/button';
 import { showToast } from '@/components/ui/Toast';
 import { Calendar, Clock } from 'lucide-react';
@@ -8,11 +9,30 @@ import { Calendar, Clock } from 'lucide-react';
 const BookSlotsPage = () => {
   const [interviews, setInterviews] = useState<AvailableInterview[]>([]);
   const [loading, setLoading] = useState(true);
+  const [hold, setHold] = useState<SlotHold | null>(null);
+  const [secondsLeft, setSecondsLeft] = useState(0);
 
   useEffect(() => {
     fetchInterviews();
   }, []);
 
+  // Counts the hold down; once it lapses the slot is free again for everyone
+  useEffect(() => {
+    if (!hold) return;
+    const tick = () => {
+      const left = Math.max(0, Math.ceil((hold.expiresAt - Date.now()) / 1000));
+      setSecondsLeft(left);
+      if (left === 0) {
+        setHold(null);
+        showToast.error('Your hold expired. Please choose a slot again.');
+        fetchInterviews();
+      }
+    };
+    tick();
+    const timer = setInterval(tick, 1000);
+    return () => clearInterval(timer);
+  }, [hold]);
+
   const fetchInterviews = async () => {
     try {
       setLoading(true);
@@ -25,13 +45,48 @@ const BookSlotsPage = () => {
     }
   };
 
-  const handleBookSlot = async (interviewId: string, date: string, timeSlot: string) => {
+  const isConflict = (error: unknown) => axios.isAxiosError(error) && error.response?.status === 409;
+
+  // Holding a slot in another interview lets the current hold go; within one interview the server does that
+  const handleSelectSlot = async (interviewId: string, date: string, timeSlot: string) => {
+    try {
+      if (hold && hold.interviewId !== interviewId) {
+        await releaseHold(hold.interviewId);
+      }
+      setHold(await holdSlot(interviewId, date, timeSlot));
+    } catch (error) {
+      setHold(null);
+      if (isConflict(error)) {
+        showToast.error('That slot was just taken. Please pick another one.');
+        fetchInterviews();
+      } else {
+        showToast.error('Failed to hold slot');
+      }
+    }
+  };
+
+  const handleConfirm = async () => {
+    if (!hold) return;
     try {
-      await bookSlot(interviewId, date, timeSlot);
+      await confirmHold(hold.interviewId);
       showToast.success('Slot booked successfully');
+    } catch (error) {
+      showToast.error(isConflict(error) ? 'Your hold expired or the slot was taken' : 'Failed to book slot');
+    } finally {
+      setHold(null);
       fetchInterviews();
+    }
+  };
+
+  const handleCancelHold = async () => {
+    if (!hold) return;
+    try {
+      await releaseHold(hold.interviewId);
     } catch (error) {
-      showToast.error('Failed to book slot');
+      // The hold lapses on its own
+    } finally {
+      setHold(null);
+      fetchInterviews();
     }
   };
 
@@ -52,6 +107,22 @@ const BookSlotsPage = () => {
       </div>
 
       <div className="max-w-7xl mx-auto px-4 py-8">
+        {hold && (
+          <div className="mb-6 bg-white rounded-xl shadow-sm p-4 flex flex-wrap items-center justify-between gap-4">
+            <span>
+              Holding <strong>{hold.date} {hold.time}</strong> for you for {secondsLeft}s
+            </span>
+            <div className="flex gap-2">
+              <Button variant="outline" size="sm" onClick={handleCancelHold}>
+                Cancel
+              </Button>
+              <Button size="sm" className="bg-[#1877F2] hover:bg-[#1665d1] text-white" onClick={handleConfirm}>
+                Confirm booking
+              </Button>
+            </div>
+          </div>
+        )}
+
         {interviews.length === 0 ? (
           <div className="text-center py-8 text-gray-500">
             No interviews available at the moment
@@ -71,18 +142,23 @@ const BookSlotsPage = () => {
                     <div key={date} className="border-t pt-4">
                       <h3 className="font-medium mb-2">{date}</h3>
                       <div className="grid grid-cols-2 sm:grid-cols-4 gap-2">
-                        {slots.map((slot) => (
-                          <Button
-                            key={slot}
-                            variant="outline"
-                            size="sm"
-                            className="border-[#1877F2] text-[#1877F2] hover:bg-[#1877F2] hover:text-white"
-                            onClick={() => handleBookSlot(interview.id, date, slot)}
-                          >
-                            <Clock className="w-4 h-4 mr-2" />
-                            {slot}
-                          </Button>
-                        ))}
+                        {slots.map((slot) => {
+                          const held = hold?.interviewId === interview.id && hold.date === date && hold.time === slot;
+                          return (
+                            <Button
+                              key={slot}
+                              variant={held ? 'default' : 'outline'}
+                              size="sm"
+                              className={held
+                                ? 'bg-[#1877F2] text-white'
+                                : 'border-[#1877F2] text-[#1877F2] hover:bg-[#1877F2] hover:text-white'}
+                              onClick={() => handleSelectSlot(interview.id, date, slot)}
+                            >
+                              <Clock className="w-4 h-4 mr-2" />
+                              {slot}
+                            </Button>
+                          );
+                        })}
                       </div>
                     </div>
                   ))}
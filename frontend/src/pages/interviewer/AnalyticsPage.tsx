@@ -4,7 +4,8 @@ import { format } from 'date-fns';
 import { showToast } from '@/components/ui/Toast';
 import { Button } from '@/components/ui/button';
 import { useNavigate } from 'react-router-dom';
-import { getMyInterviews, deleteInterview } from '@/api/interview';
+import { getMyInterviews, deleteInterview, getInterviewById } from '@/api/interview';
+import type { InterviewSummary } from '@/api/interview';
 
 export interface Interview {
   id: string;
@@ -17,22 +18,48 @@ export interface Interview {
   candidates?: { name: string; email: string; slot: string }[];
 }
 
+type ListedInterview = InterviewSummary & { status: 'upcoming' | 'ongoing' | 'completed' };
+
+interface TodaysBooking {
+  interviewName: string;
+  slot: string;
+  email: string | null;
+}
+
 const AnalyticsPage = () => {
-  const [interviews, setInterviews] = useState<Interview[]>([]);
+  const [interviews, setInterviews] = useState<ListedInterview[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
-  const [selectedInterview, setSelectedInterview] = useState<Interview | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [todaysBookings, setTodaysBookings] = useState<TodaysBooking[]>([]);
   const navigate = useNavigate();
 
   useEffect(() => {
     fetchInterviews();
   }, []);
 
-  const fetchInterviews = async () => {
+  // The listing carries counts only, so fetch the slot grid of interviews running today
+  useEffect(() => {
+    const today = format(new Date(), 'yyyy-MM-dd');
+    const ongoing = interviews.filter(i => i.status === 'ongoing' && i.bookedSlots > 0);
+    Promise.all(ongoing.map(i => getInterviewById(i.id)))
+      .then(details => setTodaysBookings(details.flatMap(interview =>
+        Object.entries(interview.timeSlots[today] || {})
+          .filter(([_, email]) => email !== null)
+          .map(([slot, email]) => ({
+            interviewName: interview.interviewName,
+            slot,
+            email
+          })))))
+      .catch(error => console.error('Failed to fetch today\'s bookings:', error));
+  }, [interviews]);
+
+  const fetchInterviews = async (cursor?: string) => {
     try {
-      const data = await getMyInterviews();
+      const page = await getMyInterviews(cursor);
       
       // Add status to each interview
-      const interviewsWithStatus = data.map((interview: Interview) => {
+      const interviewsWithStatus = page.items.map((interview): ListedInterview => {
         const today = new Date();
         const fromDate = new Date(interview.fromDate);
         const toDate = new Date(interview.toDate);
@@ -52,7 +79,8 @@ const AnalyticsPage = () => {
         };
       });
 
-      setInterviews(interviewsWithStatus);
+      setInterviews(previous => cursor ? [...previous, ...interviewsWithStatus] : interviewsWithStatus);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error('Fetch error:', error);
       showToast.error('Failed to fetch interviews');
@@ -61,13 +89,21 @@ const AnalyticsPage = () => {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    await fetchInterviews(nextCursor);
+    setLoadingMore(false);
+  };
+
   const handleDelete = async (id: string) => {
     if (!confirm('Are you sure you want to delete this interview?')) return;
 
     try {
       await deleteInterview(id);
       showToast.success('Interview deleted successfully');
-      fetchInterviews();
+      // Drop it in place so pages loaded with "Load more" stay on screen
+      setInterviews(previous => previous.filter(interview => interview.id !== id));
     } catch (error) {
       showToast.error('Failed to delete interview');
     }
@@ -80,17 +116,6 @@ const AnalyticsPage = () => {
     upcoming: interviews.filter(i => i.status === 'upcoming').length
   };
 
-  const todaysBookings = interviews.flatMap(interview => {
-    const today = format(new Date(), 'yyyy-MM-dd');
-    return Object.entries(interview.timeSlots[today] || {})
-      .filter(([_, email]) => email !== null)
-      .map(([slot, email]) => ({
-        interviewName: interview.interviewName,
-        slot,
-        email
-      }));
-  });
-
   if (loading) {
     return (
       <div className="flex items-center justify-center min-h-screen">
@@ -161,15 +186,11 @@ const AnalyticsPage = () => {
                           </div>
                           <div className="flex items-center">
                             <Clock className="w-4 h-4 mr-1" />
-                            <span>{Object.keys(interview.timeSlots).length} slots</span>
+                            <span>{interview.totalSlots} slots</span>
                           </div>
                           <div className="flex items-center">
                             <Users className="w-4 h-4 mr-1" />
-                            <span>
-                              {Object.values(interview.timeSlots).reduce((acc, slots) => 
-                                acc + Object.values(slots).filter(slot => slot !== null).length, 0
-                              )} booked
-                            </span>
+                            <span>{interview.bookedSlots} booked</span>
                           </div>
                         </div>
                       </div>
@@ -197,6 +218,20 @@ const AnalyticsPage = () => {
                   </div>
                 ))}
               </div>
+              {nextCursor && (
+                <div className="p-4 border-t border-gray-100 flex justify-center">
+                  <Button
+                    variant="outline"
+                    size="sm"
+                    className="border-[#1877F2] text-[#1877F2] hover:bg-[#1877F2] hover:text-white"
+                    disabled={loadingMore}
+                    onClick={loadMore}
+                  >
+                    {loadingMore && <Loader2 className="w-4 h-4 mr-1 animate-spin" />}
+                    Load more
+                  </Button>
+                </div>
+              )}
             </div>
           </div>
 
@@ -229,18 +264,13 @@ const AnalyticsPage = () => {
                 <div className="flex justify-between items-center">
                   <span className="text-gray-600">Total Slots</span>
                   <span className="font-medium text-[#1877F2]">
-                    {interviews.reduce((acc, interview) => 
-                      acc + Object.keys(interview.timeSlots).length, 0)}
+                    {interviews.reduce((acc, interview) => acc + interview.totalSlots, 0)}
                   </span>
                 </div>
                 <div className="flex justify-between items-center">
                   <span className="text-gray-600">Total Bookings</span>
                   <span className="font-medium text-[#1877F2]">
-                    {interviews.reduce((acc, interview) => 
-                      acc + Object.values(interview.timeSlots)
-                        .reduce((sum, slots) => 
-                          sum + Object.values(slots)
-                            .filter(slot => slot !== null).length, 0), 0)}
+                    {interviews.reduce((acc, interview) => acc + interview.bookedSlots, 0)}
                   </span>
                 </div>
               </div>